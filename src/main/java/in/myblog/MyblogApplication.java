@@ -5,6 +5,9 @@ import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
 
 @OpenAPIDefinition(
         info = @Info(
@@ -15,10 +18,18 @@ import org.springframework.cache.annotation.EnableCaching;
 )
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class MyblogApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(MyblogApplication.class, args);
+        SpringApplication application = new SpringApplication(MyblogApplication.class);
+        // 설정 파일에서 덮어쓸 수 있는 기본값
+        // 관리 엔드포인트는 로드밸런서에 노출되지 않도록 별도 포트에서 health, prometheus만 공개
+        application.setDefaultProperties(Map.of(
+                "management.server.port", "8081",
+                "management.endpoints.web.exposure.include", "health,prometheus"
+        ));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,74 @@
+package in.myblog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 캐시 이름별로 크기 제한/만료/갱신 주기를 둔 Caffeine 캐시 매니저
+// cache.specs.<캐시 이름>=maximumSize=...,expireAfterWrite=...,refreshAfterWrite=... (CaffeineSpec 형식)
+// 설정이 없는 캐시는 cache.default-spec 사용, 모든 캐시는 hit/miss/eviction 통계를 기록
+// 직접 만든 Caffeine 캐시를 쓰는 빈(JwtUtil, UserPrincipalCache, TagResolver)도 registerCustomCache로 등록해 같은 통계에 포함
+@Slf4j
+@Configuration
+public class CacheConfig {
+
+    // 별도 설정이 없을 때의 캐시별 기본값
+    private static final Map<String, String> DEFAULT_SPECS = Map.of(
+            "tags", "maximumSize=1,expireAfterWrite=1h,refreshAfterWrite=10m"
+    );
+
+    @Value("${cache.default-spec:maximumSize=1000,expireAfterWrite=10m}")
+    private String defaultSpec;
+
+    @Bean
+    public CaffeineCacheManager cacheManager(Environment environment, List<NamedCacheLoader> loaders) {
+        Map<String, NamedCacheLoader> loadersByName = loaders.stream()
+                .collect(Collectors.toMap(NamedCacheLoader::getCacheName, Function.identity()));
+
+        Map<String, String> specs = new HashMap<>(DEFAULT_SPECS);
+        specs.putAll(Binder.get(environment)
+                .bind("cache.specs", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of()));
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 이름이 등록되지 않은 캐시도 기본 설정으로 생성되도록 허용
+        cacheManager.setCaffeine(Caffeine.from(CaffeineSpec.parse(defaultSpec)).recordStats());
+
+        specs.forEach((name, spec) -> {
+            Caffeine<Object, Object> builder = Caffeine.from(CaffeineSpec.parse(spec)).recordStats();
+            NamedCacheLoader loader = loadersByName.get(name);
+            if (loader != null) {
+                // LoadingCache는 refreshAfterWrite가 지나면 기존 값을 반환하면서 백그라운드에서 다시 로드
+                cacheManager.registerCustomCache(name, builder.build(loader::load));
+            } else if (spec.contains("refreshAfterWrite")) {
+                throw new IllegalStateException("Cache '" + name + "' uses refreshAfterWrite but has no NamedCacheLoader");
+            } else {
+                cacheManager.registerCustomCache(name, builder.build());
+            }
+            log.info("Configured cache '{}' with spec '{}'", name, spec);
+        });
+
+        return cacheManager;
+    }
+
+    // 빈이 직접 만든 Caffeine 캐시를 캐시 매니저에 등록하고 그대로 반환 (통계 조회용, 값은 캐시 매니저를 거치지 않고 사용)
+    @SuppressWarnings("unchecked")
+    public static <K, V> Cache<K, V> register(CaffeineCacheManager cacheManager, String name, Cache<K, V> cache) {
+        cacheManager.registerCustomCache(name, (Cache<Object, Object>) (Cache<?, ?>) cache);
+        return cache;
+    }
+}
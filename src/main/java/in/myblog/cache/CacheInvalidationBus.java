@@ -0,0 +1,176 @@
+package in.myblog.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 여러 서버가 같은 MySQL만 공유하는 환경에서 메모리 캐시 무효화를 전파하는 버스
+// 변경 트랜잭션 안에서 cache_invalidation_events에 (캐시 이름, 키)를 기록하고,
+// 각 서버는 주기적으로 마지막으로 읽은 ID(high-water mark) 이후 이벤트를 읽어 자기 캐시에서 제거
+// 자기 서버 이벤트는 발행한 쪽에서 커밋 후 이미 반영하므로 건너뜀
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_invalidation_events (cache_name, cache_key, node_id, created_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_SQL =
+            "SELECT id, cache_name, cache_key, node_id FROM cache_invalidation_events WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    // 핸들러 구현체가 이 버스를 주입받으므로 순환 참조를 피하기 위해 처음 사용할 때 조회
+    private final ObjectProvider<CacheInvalidationHandler> handlerProvider;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${cache.invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.invalidation.batch-size:500}")
+    private int batchSize;
+
+    // 먼저 발급된 ID가 늦게 커밋될 수 있으므로 high-water mark보다 이만큼 앞에서부터 다시 읽음
+    @Value("${cache.invalidation.lookback-ids:100}")
+    private int lookbackIds;
+
+    @Value("${cache.invalidation.retention-seconds:300}")
+    private long retentionSeconds;
+
+    private Map<String, CacheInvalidationHandler> handlers;
+    private long startMark = -1L;
+    private long highWaterMark;
+    // lookback 구간에서 이미 처리한 이벤트 ID
+    private final Set<Long> seen = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > 2 * (lookbackIds + batchSize);
+        }
+    });
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate, CacheManager cacheManager,
+                                ObjectProvider<CacheInvalidationHandler> handlerProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+        this.handlerProvider = handlerProvider;
+    }
+
+    // 호출한 트랜잭션과 함께 커밋/롤백되도록 같은 트랜잭션에서 기록 (이 서버의 캐시는 호출한 쪽에서 커밋 후 처리)
+    public void publish(String cacheName, String key) {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_SQL, cacheName, key, nodeId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (startMark < 0) {
+                // 기동 이전 이벤트는 이 서버의 빈 캐시와 무관하므로 현재 최대 ID부터 시작
+                Long maxId = jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(MAX(id), 0) FROM cache_invalidation_events", Long.class);
+                startMark = maxId != null ? maxId : 0L;
+                highWaterMark = startMark;
+                return;
+            }
+
+            int limit = lookbackIds + batchSize;
+            List<EventRow> rows;
+            do {
+                long from = Math.max(startMark, highWaterMark - lookbackIds);
+                rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new EventRow(
+                        rs.getLong("id"),
+                        rs.getString("cache_name"),
+                        rs.getString("cache_key"),
+                        rs.getString("node_id")
+                ), from, limit);
+
+                long previousMark = highWaterMark;
+                for (EventRow row : rows) {
+                    highWaterMark = Math.max(highWaterMark, row.id());
+                    if (seen.add(row.id()) && !nodeId.equals(row.nodeId())) {
+                        apply(row);
+                    }
+                }
+                // 한 번에 다 읽지 못했으면 이어서 읽음
+                if (highWaterMark == previousMark) {
+                    break;
+                }
+            } while (rows.size() == limit);
+        } catch (DataAccessException e) {
+            log.warn("Failed to poll cache invalidation events: {}", e.getMessage());
+        }
+    }
+
+    // 모든 서버가 읽었을 만큼 지난 이벤트 삭제
+    @Scheduled(fixedDelayString = "${cache.invalidation.compact-interval-ms:60000}")
+    public int compact() {
+        if (!enabled) {
+            return 0;
+        }
+        try {
+            int removed = jdbcTemplate.update("DELETE FROM cache_invalidation_events WHERE created_at < ?",
+                    Timestamp.valueOf(LocalDateTime.now().minusSeconds(retentionSeconds)));
+            if (removed > 0) {
+                log.debug("Compacted {} cache invalidation events", removed);
+            }
+            return removed;
+        } catch (DataAccessException e) {
+            log.warn("Failed to compact cache invalidation events: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void apply(EventRow row) {
+        CacheInvalidationHandler handler = getHandlers().get(row.cacheName());
+        try {
+            if (handler != null) {
+                handler.invalidate(row.cacheKey());
+                return;
+            }
+            Cache cache = cacheManager.getCache(row.cacheName());
+            if (cache == null) {
+                return;
+            }
+            if (row.cacheKey() == null) {
+                cache.clear();
+            } else {
+                cache.evict(row.cacheKey());
+            }
+        } catch (RuntimeException e) {
+            // 한 이벤트 처리 실패로 나머지 이벤트가 막히지 않도록 기록만 하고 계속
+            log.warn("Failed to apply cache invalidation {}:{}: {}", row.cacheName(), row.cacheKey(), e.getMessage());
+        }
+    }
+
+    private Map<String, CacheInvalidationHandler> getHandlers() {
+        if (handlers == null) {
+            handlers = handlerProvider.orderedStream()
+                    .collect(Collectors.toMap(CacheInvalidationHandler::getCacheName, Function.identity()));
+        }
+        return handlers;
+    }
+
+    private record EventRow(long id, String cacheName, String cacheKey, String nodeId) {
+    }
+}
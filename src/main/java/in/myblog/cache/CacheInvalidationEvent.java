@@ -0,0 +1,33 @@
+package in.myblog.cache;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 서버 간 캐시 무효화 이벤트 로그 (CacheInvalidationBus가 JdbcTemplate으로 기록/조회하며, 엔티티는 스키마 정의용)
+@Entity
+@Table(name = "cache_invalidation_events",
+        indexes = @Index(name = "idx_cache_invalidation_events_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheInvalidationEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false, length = 64)
+    private String cacheName;
+
+    // null이면 캐시 전체
+    @Column(name = "cache_key")
+    private String cacheKey;
+
+    @Column(name = "node_id", nullable = false, length = 36)
+    private String nodeId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,12 @@
+package in.myblog.cache;
+
+// 다른 서버에서 발행한 무효화 이벤트를 이 서버의 메모리 캐시에 반영
+// Spring CacheManager 밖에 있는 캐시(ETag 버전, 태그 색인 등)가 구현
+// 등록되지 않은 캐시 이름은 CacheManager의 같은 이름 캐시에서 제거
+public interface CacheInvalidationHandler {
+
+    String getCacheName();
+
+    // key가 null이면 캐시 전체 무효화
+    void invalidate(String key);
+}
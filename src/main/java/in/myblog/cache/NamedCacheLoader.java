@@ -0,0 +1,10 @@
+package in.myblog.cache;
+
+// refreshAfterWrite를 쓰는 캐시의 값 로더
+// @Cacheable 메서드는 캐시가 직접 다시 호출할 수 없으므로 캐시 이름별로 같은 값을 만드는 로더를 등록
+public interface NamedCacheLoader {
+
+    String getCacheName();
+
+    Object load(Object key);
+}
@@ -2,6 +2,7 @@ package in.myblog.comment.controller;
 
 import in.myblog.comment.dto.CommentDto;
 import in.myblog.comment.dto.CommentListDto;
+import in.myblog.comment.dto.ResponseCursorCommentsDTO;
 import in.myblog.comment.service.CommentService;
 import in.myblog.comment.service.CommentServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +38,24 @@ public class CommentController {
         return ResponseEntity.ok(commentService.getCommentsByPostId(postId));
     }
 
+    @Operation(summary = "포스트 ID로 댓글 커서 조회",
+            description = "특정 포스트의 댓글을 최신순으로 페이지 단위로 가져옵니다. 첫 페이지는 빈 커서를, " +
+                    "다음 페이지는 응답의 nextCursor를 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 댓글을 가져왔습니다",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ResponseCursorCommentsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서입니다"),
+            @ApiResponse(responseCode = "404", description = "해당 포스트를 찾을 수 없습니다")
+    })
+    @GetMapping(value = "/post/{postId}", params = "cursor")
+    public ResponseEntity<ResponseCursorCommentsDTO> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(postId, cursor, size));
+    }
+
     @Operation(summary = "새 댓글 생성", description = "특정 포스트에 새 댓글을 작성합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공적으로 댓글을 생성했습니다",
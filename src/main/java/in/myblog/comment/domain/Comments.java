@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_comments_post_created_id", columnList = "post_id, created_at, id"))
 public class Comments {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
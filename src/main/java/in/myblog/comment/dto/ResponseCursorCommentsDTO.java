@@ -0,0 +1,17 @@
+package in.myblog.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 기반 댓글 목록 응답. 다음 페이지가 있으면 nextCursor로 이어서 조회
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseCursorCommentsDTO {
+    private List<CommentListDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
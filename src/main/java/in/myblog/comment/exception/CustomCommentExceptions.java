@@ -17,6 +17,12 @@ public class CustomCommentExceptions {
         }
     }
 
+    public static class InvalidCursorException extends RuntimeException {
+        public InvalidCursorException(String cursor) {
+            super(String.format("잘못된 커서입니다: %s", cursor));
+        }
+    }
+
     public static class InvalidPasswordException extends RuntimeException {
         public InvalidPasswordException() {
             super("비밀번호가 틀렸습니다.");
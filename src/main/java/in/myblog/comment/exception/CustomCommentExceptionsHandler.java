@@ -31,4 +31,11 @@ public class CustomCommentExceptionsHandler {
         response.put("message", ex.getMessage());
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
+
+    @ExceptionHandler(CustomCommentExceptions.InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursorException(CustomCommentExceptions.InvalidCursorException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
 }
\ No newline at end of file
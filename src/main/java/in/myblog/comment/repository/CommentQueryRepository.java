@@ -0,0 +1,77 @@
+package in.myblog.comment.repository;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import in.myblog.comment.domain.QComments;
+import in.myblog.comment.dto.CommentListDto;
+import in.myblog.config.KeysetCursor;
+import in.myblog.user.domain.QUsers;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.querydsl.core.types.Projections.constructor;
+
+// 댓글 목록 조회 전용 쿼리. 엔티티를 로딩하지 않고 작성자를 한 번 조인해 CommentListDto로 바로 projection
+// (댓글마다 작성자를 지연 로딩하는 N+1 없이 쿼리 1회)
+// (post_id, created_at, id) 인덱스를 타도록 최신순 키셋 조건으로 조회
+@RequiredArgsConstructor
+@Repository
+public class CommentQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 게시글의 전체 댓글을 최신순으로 조회
+    public List<CommentListDto> findAllByPostId(Long postId) {
+        QComments comments = QComments.comments;
+        return listQuery(postId)
+                .orderBy(comments.createdAt.desc(), comments.id.desc())
+                .fetch();
+    }
+
+    // after 이후(더 오래된) 댓글을 최신순으로 최대 limit건 조회, after가 null이면 첫 페이지
+    public List<CommentListDto> findPage(Long postId, KeysetCursor after, int limit) {
+        QComments comments = QComments.comments;
+        JPAQuery<CommentListDto> query = listQuery(postId);
+
+        if (after != null) {
+            query.where(comments.createdAt.lt(after.getCreatedAt())
+                    .or(comments.createdAt.eq(after.getCreatedAt()).and(comments.id.lt(after.getId()))));
+        }
+
+        return query
+                .orderBy(comments.createdAt.desc(), comments.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public long countByPostId(Long postId) {
+        QComments comments = QComments.comments;
+        Long count = queryFactory
+                .select(comments.count())
+                .from(comments)
+                .where(comments.post.id.eq(postId))
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    private JPAQuery<CommentListDto> listQuery(Long postId) {
+        QComments comments = QComments.comments;
+        QUsers commentAuthor = new QUsers("commentAuthor");
+
+        return queryFactory
+                .select(constructor(CommentListDto.class,
+                        comments.id,
+                        comments.content,
+                        comments.createdAt,
+                        comments.updatedAt,
+                        commentAuthor.username,
+                        comments.isAnonymous,
+                        comments.anonymousName
+                ))
+                .from(comments)
+                .leftJoin(comments.author, commentAuthor)
+                .where(comments.post.id.eq(postId));
+    }
+}
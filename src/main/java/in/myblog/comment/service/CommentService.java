@@ -2,11 +2,13 @@ package in.myblog.comment.service;
 
 import in.myblog.comment.dto.CommentDto;
 import in.myblog.comment.dto.CommentListDto;
+import in.myblog.comment.dto.ResponseCursorCommentsDTO;
 
 import java.util.List;
 
 public interface CommentService {
     List<CommentListDto> getCommentsByPostId(Long postId);
+    ResponseCursorCommentsDTO getCommentsByCursor(Long postId, String cursor, int size);
     CommentListDto createComment(CommentDto commentDto);
     CommentListDto updateComment(Long commentId, CommentDto commentDto, Long userId,String password);
     void deleteComment(Long commentId, Long userId, String deletePassword);
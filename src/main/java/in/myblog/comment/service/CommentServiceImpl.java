@@ -4,11 +4,15 @@ import in.myblog.comment.domain.Comments;
 import in.myblog.comment.domain.AccessResult;
 import in.myblog.comment.dto.CommentDto;
 import in.myblog.comment.dto.CommentListDto;
+import in.myblog.comment.dto.ResponseCursorCommentsDTO;
 import in.myblog.comment.exception.CustomCommentExceptions;
+import in.myblog.comment.repository.CommentQueryRepository;
 import in.myblog.comment.repository.CommentRepository;
+import in.myblog.config.KeysetCursor;
 import in.myblog.post.domain.Posts;
 import in.myblog.post.exception.CustomPostExceptions;
 import in.myblog.post.repository.PostRepository;
+import in.myblog.post.service.PostVersionRegistry;
 import in.myblog.user.domain.Users;
 import in.myblog.user.exception.CustomUserExceptions;
 import in.myblog.user.repository.UserRepository;
@@ -20,25 +24,55 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class CommentServiceImpl implements CommentService {
 
+    // 한 페이지 최대 댓글 수
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
+    private final CommentQueryRepository commentQueryRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final EntityManager entityManager;
+    private final PostVersionRegistry postVersionRegistry;
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<CommentListDto> getCommentsByPostId(Long postId) {
-        Posts post = getPostReference(postId);
+        List<CommentListDto> comments = commentQueryRepository.findAllByPostId(postId);
 
-        List<Comments> comments = commentRepository.findByPostOrderByCreatedAtDesc(post);
-        return comments.stream()
-                .map(this::convertToListDto)
-                .collect(Collectors.toList());
+        // 결과가 없을 때만 게시글 존재 여부 확인 (댓글이 있으면 게시글도 존재)
+        if (comments.isEmpty() && !postRepository.existsById(postId)) {
+            throw new CustomPostExceptions.PostNotFoundException(postId);
+        }
+        return comments;
+    }
+
+    // (createdAt, id) 키셋 페이지네이션. size + 1건만 조회해 다음 페이지 여부 판단
+    @Transactional(readOnly = true)
+    public ResponseCursorCommentsDTO getCommentsByCursor(Long postId, String cursor, int size) {
+        KeysetCursor after = decodeCursor(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        List<CommentListDto> comments = commentQueryRepository.findPage(postId, after, pageSize + 1);
+
+        // 결과가 없을 때만 게시글 존재 여부 확인 (댓글이 있으면 게시글도 존재)
+        if (comments.isEmpty() && !postRepository.existsById(postId)) {
+            throw new CustomPostExceptions.PostNotFoundException(postId);
+        }
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentListDto> content = hasNext ? comments.subList(0, pageSize) : comments;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentListDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new ResponseCursorCommentsDTO(content, nextCursor, hasNext);
     }
 
     @Transactional
@@ -62,6 +96,7 @@ public class CommentServiceImpl implements CommentService {
         }
 
         Comments savedComment = commentRepository.save(comment);
+        postVersionRegistry.bumpPost(commentDto.getPostId());
         return convertToListDto(savedComment);
     }
 
@@ -81,6 +116,7 @@ public class CommentServiceImpl implements CommentService {
             case ALLOWED:
                 comment.updateContent(commentDto.getContent());
                 Comments updatedComment = commentRepository.save(comment);
+                postVersionRegistry.bumpPost(comment.getPost().getId());
                 return convertToListDto(updatedComment);
             case NOT_AUTHOR, NOT_ALLOWED:
                 throw new CustomCommentExceptions.CommentAccessDeniedException();
@@ -106,6 +142,7 @@ public class CommentServiceImpl implements CommentService {
         switch (result) {
             case ALLOWED:
                 commentRepository.delete(comment);
+                postVersionRegistry.bumpPost(comment.getPost().getId());
                 break;
             case NOT_AUTHOR, NOT_ALLOWED:
                 throw new CustomCommentExceptions.CommentAccessDeniedException();
@@ -126,6 +163,14 @@ public class CommentServiceImpl implements CommentService {
                 .build();
     }
 
+    private KeysetCursor decodeCursor(String cursor) {
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new CustomCommentExceptions.InvalidCursorException(cursor);
+        }
+    }
+
     private Posts getPostReference(Long postId) {
         if (!postRepository.existsById(postId)) {
             throw new CustomPostExceptions.PostNotFoundException(postId);
@@ -0,0 +1,25 @@
+package in.myblog.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 현재 트랜잭션이 커밋된 뒤에 실행할 작업 등록 (트랜잭션 밖에서 호출되면 즉시 실행)
+public final class AfterCommit {
+
+    private AfterCommit() {
+        throw new AssertionError("This class should not be instantiated.");
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
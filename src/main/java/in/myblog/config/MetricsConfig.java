@@ -0,0 +1,85 @@
+package in.myblog.config;
+
+import in.myblog.like.service.LikeCountBuffer;
+import in.myblog.post.service.ImageDeletionQueue;
+import in.myblog.post.service.ImageVariantGenerator;
+import in.myblog.post.service.VisitLogWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// 애플리케이션 내부 버퍼/큐 상태를 Micrometer 지표로 노출
+// HTTP 요청, Hikari 커넥션 풀, 캐시(recordStats) 지표는 Actuator 자동 설정으로 수집
+@Configuration
+public class MetricsConfig {
+
+    // 요청 지연 시간은 Prometheus에서 분위수를 계산할 수 있도록 히스토그램 버킷으로 노출
+    @Bean
+    public MeterFilter httpServerRequestsHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals("http.server.requests")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder bufferMetrics(VisitLogWriter visitLogWriter,
+                                     LikeCountBuffer likeCountBuffer,
+                                     ImageDeletionQueue imageDeletionQueue,
+                                     ImageVariantGenerator imageVariantGenerator) {
+        return registry -> {
+            Gauge.builder("visit_log.queue.depth", visitLogWriter, VisitLogWriter::getQueueDepth)
+                    .description("Visit logs waiting to be written")
+                    .register(registry);
+            FunctionCounter.builder("visit_log.written", visitLogWriter, VisitLogWriter::getWrittenCount)
+                    .register(registry);
+            FunctionCounter.builder("visit_log.dropped", visitLogWriter, VisitLogWriter::getDroppedCount)
+                    .description("Visit logs dropped because the queue was full")
+                    .register(registry);
+            FunctionCounter.builder("visit_log.failed", visitLogWriter, VisitLogWriter::getFailedCount)
+                    .register(registry);
+
+            Gauge.builder("like_count.pending.posts", likeCountBuffer, LikeCountBuffer::getPendingPostCount)
+                    .description("Posts with like count deltas not yet flushed")
+                    .register(registry);
+
+            Gauge.builder("image.delete.pending", imageDeletionQueue, ImageDeletionQueue::getPendingCount)
+                    .description("Image keys waiting for batch deletion")
+                    .register(registry);
+
+            Gauge.builder("image.variants.queue.depth", imageVariantGenerator, ImageVariantGenerator::getQueueDepth)
+                    .register(registry);
+            FunctionCounter.builder("image.variants.skipped", imageVariantGenerator, ImageVariantGenerator::getSkippedCount)
+                    .description("Uploads served without variants because the queue was full")
+                    .register(registry);
+            for (Integer width : imageVariantGenerator.getGeneratedCountByWidth().keySet()) {
+                FunctionCounter.builder("image.variants.generated", imageVariantGenerator,
+                                generator -> generator.getGeneratedCountByWidth().getOrDefault(width, 0L))
+                        .tag("width", width.toString())
+                        .register(registry);
+                FunctionCounter.builder("image.variants.bytes.saved", imageVariantGenerator,
+                                generator -> generator.getBytesSavedByWidth().getOrDefault(width, 0L))
+                        .tag("width", width.toString())
+                        .baseUnit("bytes")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -1,26 +1,43 @@
 package in.myblog.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import in.myblog.cache.CacheConfig;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.function.Function;
 
 @Slf4j
+@RequiredArgsConstructor
 @Component
 public class JwtUtil {
 
+    // 캐시 통계(/api/secure/cache-stats)에 표시되는 이름
+    public static final String VERIFIED_CACHE_NAME = "jwtVerified";
+
+    private final CaffeineCacheManager cacheManager;
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -30,26 +47,75 @@ public class JwtUtil {
     @Value("${jwt.refresh.expiration}")
     private Long refreshExpiration;
 
-    private Key getSigningKey() {
+    // 검증 완료 토큰 캐시 크기 (0이면 캐시하지 않음)
+    @Value("${jwt.verified-cache.size:1024}")
+    private int verifiedCacheSize;
+
+    // Refresh Token 만료 3일 전부터 갱신
+    private static final long REFRESH_THRESHOLD_MILLIS = 3L * 24 * 60 * 60 * 1000;
+
+    // 키와 파서는 불변이므로 기동 시 한 번만 생성해 재사용
+    private Key signingKey;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        verifiedTokens = CacheConfig.register(cacheManager, VERIFIED_CACHE_NAME, Caffeine.newBuilder()
+                .maximumSize(Math.max(verifiedCacheSize, 0))
+                .recordStats()
+                .<String, VerifiedToken>build());
+    }
+
+    // 토큰을 한 번만 파싱/검증해서 필요한 클레임을 반환
+    // 최근 검증한 토큰은 만료 전까지 해시 기준으로 캐시해 서명(HS512) 재검증을 생략
+    // 유효하지 않으면 JwtException(만료 시 ExpiredJwtException) 또는 IllegalArgumentException
+    public VerifiedToken verify(String token) {
+        String cacheKey = null;
+        if (verifiedCacheSize > 0 && token != null) {
+            cacheKey = hash(token);
+            VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+            if (cached != null) {
+                if (!cached.isExpired()) {
+                    return cached;
+                }
+                verifiedTokens.invalidate(cacheKey);
+            }
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        VerifiedToken verified = new VerifiedToken(Long.parseLong(claims.getSubject()), claims.getExpiration());
+
+        if (cacheKey != null && verified.getExpiration() != null) {
+            verifiedTokens.put(cacheKey, verified);
+        }
+        return verified;
     }
 
     public boolean shouldRefreshToken(String token) {
         try {
-            Date expiration = getExpirationDateFromToken(token);
-            // 만료 3일 전부터 갱신
-            return expiration.getTime() - System.currentTimeMillis() < 3 * 24 * 60 * 60 * 1000;
+            return shouldRefresh(verify(token));
         } catch (Exception e) {
             return false;
         }
     }
 
+    // 이미 검증한 토큰의 갱신 여부 (만료 3일 전부터 갱신)
+    public boolean shouldRefresh(VerifiedToken token) {
+        return token.expiresWithin(REFRESH_THRESHOLD_MILLIS);
+    }
+
     public String generateToken(Long userId, long expiration) {
         return Jwts.builder()
                 .setSubject(String.valueOf(userId))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -62,12 +128,11 @@ public class JwtUtil {
     }
 
     public Long getUserIdFromToken(String token) {
-        String userIdStr = getClaimFromToken(token, Claims::getSubject);
-        return Long.parseLong(userIdStr);
+        return verify(token).getUserId();
     }
 
     public Date getExpirationDateFromToken(String token) {
-        return getClaimFromToken(token, Claims::getExpiration);
+        return verify(token).getExpiration();
     }
 
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
@@ -76,11 +141,7 @@ public class JwtUtil {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String extractTokenFromHeader(HttpServletRequest request) {
@@ -111,14 +172,21 @@ public class JwtUtil {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            verify(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
             return false;
         }
     }
+
+    // 캐시 키로 토큰 원문 대신 SHA-256 해시 사용
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
\ No newline at end of file
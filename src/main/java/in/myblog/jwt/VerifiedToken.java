@@ -0,0 +1,23 @@
+package in.myblog.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+// 서명 검증이 끝난 토큰에서 필요한 값만 담은 불변 객체
+@Getter
+@AllArgsConstructor
+public final class VerifiedToken {
+    private final Long userId;
+    private final Date expiration;
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+
+    // 만료까지 남은 시간이 기준보다 짧은지 (리프레시 토큰 재발급 판단용)
+    public boolean expiresWithin(long millis) {
+        return expiration.getTime() - System.currentTimeMillis() < millis;
+    }
+}
@@ -14,15 +14,22 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "likes")
+@Table(name = "likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_likes_post_device", columnNames = {"post_id", "device_id"}))
 public class Like {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "device_id", nullable = false)
+    // 클라이언트 기기 ID의 SHA-256 hex (DeviceIdHasher)
+    @Column(name = "device_id", nullable = false, length = 64)
     private String deviceId;
 
+    // device_id가 해시 값인지 여부 (해시 도입 전의 행은 false, LikeDeviceIdMigration이 변환 후 true로 바꿈)
+    @Builder.Default
+    @Column(name = "device_id_hashed", nullable = false, columnDefinition = "boolean default false")
+    private boolean deviceIdHashed = true;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Posts post;
@@ -7,15 +7,35 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Like,Long> {
-    Optional<Like> findByPostIdAndDeviceId(Long postId, String deviceId);
-    Long countByPostId(Long postId);
     Boolean existsByPostIdAndDeviceId(Long postId, String deviceId);
+
+    // 게시글이 있고 아직 좋아요하지 않은 경우에만 추가 (추가되면 1, 이미 있거나 게시글이 없으면 0)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (post_id, device_id, device_id_hashed, created_at) " +
+            "SELECT p.id, :deviceId, TRUE, :createdAt FROM posts p WHERE p.id = :postId", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId,
+                       @Param("deviceId") String deviceId,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    // 여러 게시글의 좋아요 수와 해당 기기의 좋아요 여부를 GROUP BY 쿼리 한 번으로 조회
+    // (post_id, device_id) 유니크 키로 기기 조건이 붙은 조인이므로 게시글당 최대 한 행만 조인됨
+    @Query(value = "SELECT p.id AS postId, p.like_count AS likeCount, COUNT(l.id) AS likedRows " +
+            "FROM posts p LEFT JOIN likes l ON l.post_id = p.id AND l.device_id = :deviceId " +
+            "WHERE p.id IN (:postIds) GROUP BY p.id, p.like_count", nativeQuery = true)
+    List<LikeStatusRow> findLikeStatuses(@Param("postIds") Collection<Long> postIds,
+                                         @Param("deviceId") String deviceId);
+
+    @Modifying
+    @Query("delete from Like l where l.post.id = :postId and l.deviceId = :deviceId")
+    int deleteByPostIdAndDeviceId(@Param("postId") Long postId, @Param("deviceId") String deviceId);
+
     @Modifying
     @Query("delete from Like l where l.post.id = :postId")
-    void deleteAllByPostIdInBatch(@Param("postId") Long postId);
-    void deleteByPostId(Long postId);
+    int deleteAllByPostIdInBatch(@Param("postId") Long postId);
 }
@@ -0,0 +1,10 @@
+package in.myblog.like.repository;
+
+// LikeRepository.findLikeStatuses 결과 (게시글별 좋아요 수와 해당 기기의 좋아요 행 수)
+public interface LikeStatusRow {
+    Long getPostId();
+
+    Integer getLikeCount();
+
+    Long getLikedRows();
+}
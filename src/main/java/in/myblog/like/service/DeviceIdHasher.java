@@ -0,0 +1,27 @@
+package in.myblog.like.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 클라이언트가 보낸 기기 ID를 길이가 고정된 SHA-256 hex(64자)로 변환
+// 임의 길이 문자열 대신 고정 폭 값을 저장해 (post_id, device_id) 유니크 인덱스를 작게 유지
+public final class DeviceIdHasher {
+
+    private DeviceIdHasher() {
+        throw new AssertionError("This class should not be instantiated.");
+    }
+
+    public static String hash(String deviceId) {
+        if (deviceId == null || deviceId.isBlank()) {
+            throw new IllegalArgumentException("deviceId must not be blank");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(deviceId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package in.myblog.like.service;
+
+import in.myblog.config.AfterCommit;
+import in.myblog.post.service.PostVersionRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글별 좋아요 증감분을 메모리에 모았다가 주기적으로 posts.like_count에 한 번에 반영
+// 인기 게시글에 좋아요가 몰려도 같은 posts 행을 요청마다 잠그지 않도록 하기 위함
+// 조회 시에는 DB 값에 getPendingDelta()를 더해 사용
+// 다른 서버는 반영된 뒤에야 바뀐 값을 보므로, 반영할 때 게시글별로 한 번씩 버전 증가를 전파
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountBuffer {
+
+    private static final String UPDATE_SQL = "UPDATE posts SET like_count = like_count + ? WHERE id = ?";
+    private static final String LIKE_ROWS = "(SELECT COUNT(*) FROM likes l WHERE l.post_id = posts.id)";
+    private static final String RECONCILE_PENDING_SQL =
+            "UPDATE posts SET like_count = " + LIKE_ROWS + " - ? WHERE id = ? AND like_count <> " + LIKE_ROWS + " - ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostVersionRegistry postVersionRegistry;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 좋아요 행 변경이 커밋된 뒤에만 반영 (롤백 시 카운트가 어긋나지 않도록)
+    public void addAfterCommit(Long postId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        // 증가와 0이 된 항목 제거가 겹치지 않도록 compute 안에서 더함
+        AfterCommit.run(() -> pending.compute(postId, (id, counter) -> {
+            LongAdder target = counter != null ? counter : new LongAdder();
+            target.add(delta);
+            return target;
+        }));
+    }
+
+    // 아직 DB에 반영되지 않은 증감분
+    public long getPendingDelta(Long postId) {
+        LongAdder counter = pending.get(postId);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    public int getPendingPostCount() {
+        return pending.size();
+    }
+
+    // 삭제된 게시글의 증감분은 버림
+    public void discardAfterCommit(Long postId) {
+        AfterCommit.run(() -> pending.remove(postId));
+    }
+
+    @Scheduled(fixedDelayString = "${like.count.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Long> postIds = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            // 읽은 만큼만 차감해서 flush 도중 들어온 증감분을 잃지 않음
+            long delta = entry.getValue().sum();
+            if (delta == 0) {
+                pending.computeIfPresent(entry.getKey(), (id, counter) -> counter.sum() == 0 ? null : counter);
+                continue;
+            }
+            postIds.add(entry.getKey());
+            deltas.add(delta);
+            args.add(new Object[]{delta, entry.getKey()});
+        }
+
+        if (args.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 일부만 반영된 채 실패하면 남겨둔 증감분이 다음 주기에 중복 반영되므로 한 트랜잭션으로 처리
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, args));
+        } catch (DataAccessException | TransactionException e) {
+            // 반영 실패 시(전체 롤백) 증감분은 남겨두고 다음 주기에 재시도
+            log.warn("Failed to flush like counts for {} posts: {}", args.size(), e.getMessage());
+            return;
+        }
+
+        // 커밋된 뒤에만 차감
+        for (int i = 0; i < postIds.size(); i++) {
+            LongAdder counter = pending.get(postIds.get(i));
+            if (counter != null) {
+                counter.add(-deltas.get(i));
+            }
+        }
+
+        try {
+            postIds.forEach(postVersionRegistry::bumpPost);
+            postVersionRegistry.bumpList();
+        } catch (DataAccessException e) {
+            // 다른 서버는 다음 쓰기까지 이전 ETag로 응답할 수 있음
+            log.warn("Failed to publish like count changes for {} posts: {}", postIds.size(), e.getMessage());
+        }
+    }
+
+    // like_count가 실제 likes 건수와 다른 게시글만 보정하고 보정된 행 수 반환
+    // flush와 같은 잠금 안에서 실행해, 보정 도중 반영되거나 보정 후 다시 더해지는 증감분이 없도록 함
+    // 반영 대기 중인 게시글은 likes 건수에서 증감분을 뺀 값으로 맞춰 두고 증감분은 그대로 남김 (다음 flush에서 건수와 같아짐)
+    public synchronized int reconcile() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        pending.forEach((postId, counter) -> {
+            long delta = counter.sum();
+            if (delta != 0) {
+                deltas.put(postId, delta);
+            }
+        });
+
+        Integer repaired = transactionTemplate.execute(status -> {
+            StringBuilder sql = new StringBuilder("UPDATE posts SET like_count = " + LIKE_ROWS +
+                    " WHERE like_count <> " + LIKE_ROWS);
+            if (!deltas.isEmpty()) {
+                // 반영 대기 중인 게시글은 아래에서 증감분을 빼서 따로 보정
+                sql.append(" AND id NOT IN (")
+                        .append(String.join(", ", Collections.nCopies(deltas.size(), "?")))
+                        .append(")");
+            }
+            int updated = jdbcTemplate.update(sql.toString(), deltas.keySet().toArray());
+
+            if (!deltas.isEmpty()) {
+                List<Object[]> args = new ArrayList<>(deltas.size());
+                deltas.forEach((postId, delta) -> args.add(new Object[]{delta, postId, delta}));
+                for (int count : jdbcTemplate.batchUpdate(RECONCILE_PENDING_SQL, args)) {
+                    updated += Math.max(count, 0);
+                }
+            }
+            return updated;
+        });
+        return repaired != null ? repaired : 0;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,69 @@
+package in.myblog.like.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 기존 likes 행을 새 형식으로 옮기는 기동 시 마이그레이션
+// 1. device_id_hashed 칼럼이 없으면 추가 (기존 행은 false = 원본 기기 ID)
+// 2. 같은 기기의 해시 행이 이미 있는 원본 행 제거
+// 3. 원본 기기 ID를 SHA-256 hex로 변환하고 표시 (MySQL SHA2는 DeviceIdHasher와 같은 소문자 hex)
+// 4. 유니크 키가 없던 시기에 생긴 중복 행 제거
+// 5. (post_id, device_id) 유니크 키 추가 (중복 행 때문에 스키마 자동 갱신에서 실패했을 수 있음)
+// 변환 중에 들어온 좋아요가 원본 행을 찾지 못해 중복되지 않도록, 모든 빈 생성 직후 웹 서버가 요청을 받기 전에 실행
+// (like_count 보정은 ApplicationReadyEvent에서 실행되므로 항상 이 마이그레이션 뒤)
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeDeviceIdMigration implements SmartInitializingSingleton {
+
+    private static final String UNIQUE_KEY_NAME = "uk_likes_post_device";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> migrate());
+    }
+
+    void migrate() {
+        Integer markerColumns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'likes' AND column_name = 'device_id_hashed'",
+                Integer.class);
+        if (markerColumns == null || markerColumns == 0) {
+            jdbcTemplate.execute("ALTER TABLE likes ADD COLUMN device_id_hashed BOOLEAN NOT NULL DEFAULT FALSE");
+        }
+
+        int superseded = jdbcTemplate.update(
+                "DELETE l1 FROM likes l1 JOIN likes l2 " +
+                        "ON l1.post_id = l2.post_id AND l2.device_id_hashed AND l2.device_id = SHA2(l1.device_id, 256) " +
+                        "WHERE NOT l1.device_id_hashed");
+
+        int hashed = jdbcTemplate.update(
+                "UPDATE likes SET device_id = SHA2(device_id, 256), device_id_hashed = TRUE " +
+                        "WHERE NOT device_id_hashed");
+
+        int duplicates = jdbcTemplate.update(
+                "DELETE l1 FROM likes l1 JOIN likes l2 " +
+                        "ON l1.post_id = l2.post_id AND l1.device_id = l2.device_id AND l1.id > l2.id");
+
+        Integer uniqueKeys = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'likes' AND index_name = ?",
+                Integer.class, UNIQUE_KEY_NAME);
+        boolean addedKey = uniqueKeys == null || uniqueKeys == 0;
+        if (addedKey) {
+            jdbcTemplate.execute("ALTER TABLE likes ADD CONSTRAINT " + UNIQUE_KEY_NAME + " UNIQUE (post_id, device_id)");
+        }
+
+        if (hashed > 0 || superseded + duplicates > 0 || addedKey) {
+            log.info("Migrated likes: {} device ids hashed, {} duplicates removed, unique key added: {}",
+                    hashed, superseded + duplicates, addedKey);
+        }
+    }
+}
@@ -1,11 +1,119 @@
 package in.myblog.like.service;
 
 import in.myblog.like.repository.LikeRepository;
+import in.myblog.like.repository.LikeStatusRow;
+import in.myblog.post.exception.CustomPostExceptions;
+import in.myblog.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class LikeService {
     private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final LikeCountBuffer likeCountBuffer;
+
+    public enum ToggleStrategy {
+        INSERT_FIRST,   // 추가를 먼저 시도 (좋아요가 취소보다 많을 때 쿼리 1회)
+        DELETE_FIRST    // 삭제를 먼저 시도
+    }
+
+    @Value("${like.toggle.strategy:INSERT_FIRST}")
+    private ToggleStrategy toggleStrategy;
+
+    // 변경 후 상태와 like_count 증감분
+    public record ToggleResult(boolean liked, int delta) {
+    }
+
+    // 기기 기준 좋아요 여부와 아직 반영되지 않은 증감분을 더한 좋아요 수
+    public record LikeStatus(boolean liked, long likeCount) {
+    }
+
+    // 조회 없이 조건부 INSERT/DELETE의 영향받은 행 수로 새 상태를 결정
+    // (post_id, device_id) 유니크 키 덕분에 더블 클릭이 동시에 들어와도 행이 하나만 생김
+    @Transactional
+    public ToggleResult toggle(Long postId, String deviceId) {
+        String deviceHash = DeviceIdHasher.hash(deviceId);
+
+        ToggleResult result;
+        if (toggleStrategy == ToggleStrategy.DELETE_FIRST) {
+            result = tryDelete(postId, deviceHash);
+            if (result == null) {
+                result = tryInsert(postId, deviceHash);
+            }
+        } else {
+            result = tryInsert(postId, deviceHash);
+            if (result == null) {
+                result = tryDelete(postId, deviceHash);
+            }
+        }
+
+        if (result == null) {
+            // 게시글이 없거나, 같은 기기의 동시 요청이 먼저 상태를 바꾼 경우
+            if (!postRepository.existsById(postId)) {
+                throw new CustomPostExceptions.PostNotFoundException(postId);
+            }
+            result = new ToggleResult(likeRepository.existsByPostIdAndDeviceId(postId, deviceHash), 0);
+        }
+
+        likeCountBuffer.addAfterCommit(postId, result.delta());
+        return result;
+    }
+
+    // DB 값에 아직 반영되지 않은 증감분을 더한 좋아요 수
+    @Transactional(readOnly = true)
+    public long getLikeCount(Long postId) {
+        return postRepository.findLikeCountById(postId).orElse(0) + likeCountBuffer.getPendingDelta(postId);
+    }
+
+    // 게시글 ID별 좋아요 상태 (존재하지 않는 게시글은 결과에 포함되지 않음)
+    @Transactional(readOnly = true)
+    public Map<Long, LikeStatus> getLikeStatuses(Collection<Long> postIds, String deviceId) {
+        Map<Long, LikeStatus> statuses = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return statuses;
+        }
+        for (LikeStatusRow row : likeRepository.findLikeStatuses(postIds, DeviceIdHasher.hash(deviceId))) {
+            long likeCount = row.getLikeCount() + likeCountBuffer.getPendingDelta(row.getPostId());
+            statuses.put(row.getPostId(), new LikeStatus(row.getLikedRows() > 0, likeCount));
+        }
+        return statuses;
+    }
+
+    // posts.like_count와 likes 테이블 건수 사이의 불일치(장애, 수동 수정 등으로 생긴 드리프트) 보정
+    // 컬럼 추가 직후 기존 게시글 값도 채우도록 기동 시 한 번 실행
+    // 반영 대기 중인 증감분과 겹치지 않도록 LikeCountBuffer의 잠금 안에서 자체 트랜잭션으로 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${like.reconcile.cron:0 30 4 * * *}")
+    public void reconcileLikeCounts() {
+        int repaired = likeCountBuffer.reconcile();
+        if (repaired > 0) {
+            log.warn("Reconciled like_count drift on {} posts", repaired);
+        } else {
+            log.debug("like_count is consistent with likes table");
+        }
+    }
+
+    private ToggleResult tryInsert(Long postId, String deviceHash) {
+        return likeRepository.insertIfAbsent(postId, deviceHash, LocalDateTime.now()) > 0
+                ? new ToggleResult(true, 1) : null;
+    }
+
+    private ToggleResult tryDelete(Long postId, String deviceHash) {
+        return likeRepository.deleteByPostIdAndDeviceId(postId, deviceHash) > 0
+                ? new ToggleResult(false, -1) : null;
+    }
 }
@@ -6,6 +6,7 @@ import in.myblog.post.domain.Posts;
 import in.myblog.post.dto.*;
 import in.myblog.post.exception.CustomPostExceptions;
 import in.myblog.post.service.PostServiceImpl;
+import in.myblog.post.service.PostVersionRegistry;
 import in.myblog.user.domain.Users;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,10 +16,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.multipart.MultipartFile;
@@ -34,6 +38,7 @@ public class PostController {
 
     private final PostServiceImpl postService;
     private final IpUtil ipUtil;
+    private final PostVersionRegistry postVersionRegistry;
 
     @Operation(summary = "Create a new post", description = "Creates a new blog post with images")
     @ApiResponses(value = {
@@ -99,7 +104,8 @@ public class PostController {
         return ResponseEntity.ok().build();
     }
 
-    @Operation(summary = "Get recent posts", description = "Retrieves a paged list of recent blog posts")
+    @Operation(summary = "Get recent posts", description = "Retrieves a paged list of recent blog posts. " +
+            "Multiple tags are matched with tagMatch=ANY (default) or tagMatch=ALL")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved posts",
                     content = @Content(mediaType = "application/json",
@@ -111,12 +117,68 @@ public class PostController {
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "16") int size,
             @RequestParam(required = false) List<String> tags,
-            HttpServletRequest request) {
+            @RequestParam(value = "tagMatch", defaultValue = "ANY") TagMatch tagMatch,
+            @RequestParam(required = false) String deviceId,
+            HttpServletRequest request,
+            WebRequest webRequest) {
         String ipAddress = ipUtil.getClientIp(request);
         String userAgent = request.getHeader("User-Agent");
         postService.saveVisitLog(1L, ipAddress, userAgent);
-        Page<PostSummaryDTO> response = postService.getRecentPosts(page, size, tags);
-        return ResponseEntity.ok(response);
+
+        // 목록 버전이 그대로면 DB 조회 없이 304
+        // (좋아요 변경도 목록 버전을 올리므로 deviceId별 liked 값도 함께 유효)
+        String eTag = postVersionRegistry.getListETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+
+        Page<PostSummaryDTO> response = postService.getRecentPosts(page, size, tags, tagMatch);
+        postService.fillLikeStatuses(response.getContent(), deviceId);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    @Operation(summary = "Get recent posts by cursor",
+            description = "Retrieves recent blog posts with keyset pagination. Pass an empty cursor for the first page " +
+                    "and the returned nextCursor for the following pages. Total counts are not calculated.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved posts",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ResponseCursorPostsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ResponseCursorPostsDTO> getRecentPostsByCursor(
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "16") int size,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(value = "tagMatch", defaultValue = "ANY") TagMatch tagMatch,
+            @RequestParam(required = false) String deviceId,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+        String ipAddress = ipUtil.getClientIp(request);
+        String userAgent = request.getHeader("User-Agent");
+        postService.saveVisitLog(1L, ipAddress, userAgent);
+
+        String eTag = postVersionRegistry.getListETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+
+        ResponseCursorPostsDTO response = postService.getRecentPostsByCursor(cursor, size, tags, tagMatch);
+        postService.fillLikeStatuses(response.getContent(), deviceId);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    @Operation(summary = "Rebuild tag index", description = "Rebuilds the in-memory tag to post index from the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully rebuilt the index",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TagIndexStatsDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PostMapping("/tag-index/rebuild")
+    public ResponseEntity<TagIndexStatsDTO> rebuildTagIndex() {
+        return ResponseEntity.ok(postService.rebuildTagIndex());
     }
 
     @Operation(summary = "Get a specific post", description = "Retrieves a specific blog post by its ID")
@@ -124,14 +186,26 @@ public class PostController {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved post",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ResponsePageDetailDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Post not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Post not found")
     })
     @GetMapping("/{postId}")
-    public ResponseEntity<ResponsePageDetailDTO> getPost(@PathVariable Long postId, HttpServletRequest request) {
+    public ResponseEntity<ResponsePageDetailDTO> getPost(@PathVariable Long postId, HttpServletRequest request,
+                                                         WebRequest webRequest) {
         String ipAddress = ipUtil.getClientIp(request);
         String userAgent = request.getHeader("User-Agent");
+
+        // 마지막으로 응답한 버전과 같으면 DB 조회 없이 304 (방문 로그는 그대로 기록)
+        String knownETag = postVersionRegistry.getKnownPostETag(postId);
+        if (knownETag != null && webRequest.checkNotModified(knownETag)) {
+            postService.saveVisitLog(postId, ipAddress, userAgent);
+            return notModified(knownETag);
+        }
+
+        long version = postVersionRegistry.getPostVersion(postId);
         ResponsePageDetailDTO post = postService.getPost(postId, ipAddress, userAgent);
-        return ResponseEntity.ok(post);
+        String eTag = postVersionRegistry.rememberPostETag(postId, version, post.getUpdatedAt());
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(post);
     }
 
     @Operation(summary = "Like a post", description = "Likes or unlikes a post based on the device ID")
@@ -139,6 +213,7 @@ public class PostController {
             @ApiResponse(responseCode = "200", description = "Successfully liked/unliked the post",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = LikeResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Blank device ID"),
             @ApiResponse(responseCode = "404", description = "Post not found")
     })
     @PostMapping("/{postId}/like")
@@ -151,6 +226,7 @@ public class PostController {
     @Operation(summary = "Get like status of a post", description = "Checks if a post is liked by a specific device")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved like status"),
+            @ApiResponse(responseCode = "400", description = "Blank device ID"),
             @ApiResponse(responseCode = "404", description = "Post not found")
     })
     @GetMapping("/{postId}/like")
@@ -161,6 +237,21 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Get like status of multiple posts",
+            description = "Returns like counts and whether each post is liked by the device, in the requested order. " +
+                    "Posts that do not exist are omitted.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved like statuses"),
+            @ApiResponse(responseCode = "400", description = "Too many post IDs or blank device ID")
+    })
+    @GetMapping("/likes")
+    public ResponseEntity<List<LikeResponseDTO>> getLikeStatuses(
+            @RequestParam("ids") List<Long> postIds,
+            @RequestParam String deviceId) {
+        List<LikeResponseDTO> response = postService.getLikeStatuses(postIds, deviceId);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/upload-image")
     @Operation(summary = "Upload an image", description = "Uploads an image and returns its URL")
     @ApiResponses(value = {
@@ -177,4 +268,8 @@ public class PostController {
             throw new CustomPostExceptions.ImageUploadFailedException("Failed to upload image", e);
         }
     }
+
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+    }
 }
\ No newline at end of file
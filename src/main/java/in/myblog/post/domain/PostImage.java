@@ -0,0 +1,46 @@
+package in.myblog.post.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 업로드된 이미지(S3 키) 정보. 사용 중인 게시글은 post_image_refs(PostImageRef)에 기록
+// 참조하는 게시글이 없는 행은 아직 게시글에 쓰이지 않았거나 게시글에서 빠진 이미지로, 유예 기간이 지나면 OrphanImageCollector가 삭제
+@Entity
+@Table(name = "post_images",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_images_image_key", columnNames = "image_key"),
+        indexes = @Index(name = "idx_post_images_unreferenced_since", columnList = "unreferenced_since"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostImage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "image_key", nullable = false, length = 512)
+    private String imageKey;
+
+    @Column(name = "uploaded_at", nullable = false)
+    private LocalDateTime uploadedAt;
+
+    // 어떤 게시글에서도 참조되지 않게 된 시각 (참조 중이면 null)
+    @Column(name = "unreferenced_since")
+    private LocalDateTime unreferencedSince;
+
+    // 원본 이미지 가로 크기 (리사이즈 변형 생성 후 기록)
+    @Column(name = "width")
+    private Integer width;
+
+    // 생성된 리사이즈 변형의 가로 크기 목록 (예: "480,960"), 변형이 없으면 null
+    @Column(name = "variant_widths", length = 64)
+    private String variantWidths;
+
+    public PostImage(String imageKey, LocalDateTime uploadedAt) {
+        this.imageKey = imageKey;
+        this.uploadedAt = uploadedAt;
+        this.unreferencedSince = uploadedAt;
+    }
+}
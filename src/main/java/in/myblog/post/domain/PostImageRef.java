@@ -0,0 +1,27 @@
+package in.myblog.post.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 이미지 키를 사용하는 게시글 목록 (같은 이미지를 여러 게시글 본문에 붙여 넣을 수 있으므로 키당 여러 행)
+// 한 게시글이 이미지를 해제해도 다른 게시글의 참조가 남아 있으면 이미지를 지우지 않음
+@Entity
+@Table(name = "post_image_refs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_image_refs_key_post", columnNames = {"image_key", "post_id"}),
+        indexes = @Index(name = "idx_post_image_refs_post_id", columnList = "post_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostImageRef {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "image_key", nullable = false, length = 512)
+    private String imageKey;
+
+    // 게시글 삭제 시 PostImageRegistry가 직접 지우므로 외래 키 없이 값만 저장
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+}
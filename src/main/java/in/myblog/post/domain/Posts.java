@@ -18,6 +18,7 @@ import java.util.List;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"))
 public class Posts {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,12 +30,21 @@ public class Posts {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // 목록용 본문 미리보기 (작성/수정 시 PostPreviewGenerator로 계산)
+    @Column(name = "content_preview", length = 512)
+    private String contentPreview;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // likes 테이블 건수를 비정규화한 값. 좋아요 증감분은 LikeCountBuffer가 모아서 반영, LikeService에서 주기적으로 보정
+    // SQL로만 갱신하므로 게시글 수정 시 dirty checking이 읽어 둔 값으로 덮어쓰지 않도록 읽기 전용으로 매핑
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false, columnDefinition = "int default 0")
+    private int likeCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private Users author;
@@ -45,7 +55,8 @@ public class Posts {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<PostTags> postTags = new ArrayList<>();
 
-    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL)
+    // 방문 로그는 게시글 삭제 시 PostDeleter가 bulk DELETE로 정리 (cascade로 전체 로딩하지 않도록)
+    @OneToMany(mappedBy = "post", fetch = FetchType.LAZY)
     private List<VisitLog> visitLogs = new ArrayList<>();
 
     @OneToMany(mappedBy = "post", fetch = FetchType.LAZY)
@@ -59,6 +70,10 @@ public class Posts {
         this.content = content;
         return this;
     }
+    public Posts updateContentPreview(String contentPreview) {
+        this.contentPreview = contentPreview;
+        return this;
+    }
     public Posts updateUpdatedAt() {
         this.updatedAt = LocalDateTime.now();
         return this;
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,6 +23,10 @@ public class Tags {
     @Column(nullable = false, unique = true)
     private String name;
 
+    // 연결된 게시글이 없다고 OrphanTagCollector가 확인한 시각 (유예 기간이 지나도 그대로면 삭제)
+    @Column(name = "orphaned_at")
+    private LocalDateTime orphanedAt;
+
     @OneToMany(mappedBy = "tag", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<PostTags> postTags = new ArrayList<>();
 }
\ No newline at end of file
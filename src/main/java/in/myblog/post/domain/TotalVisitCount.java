@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "total_visit_count")
+@Table(name = "total_visit_count",
+        uniqueConstraints = @UniqueConstraint(name = "uk_total_visit_count_date", columnNames = "date"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TotalVisitCount {
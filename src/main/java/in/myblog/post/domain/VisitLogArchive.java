@@ -0,0 +1,36 @@
+package in.myblog.post.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 삭제된 게시글의 방문 로그 보관용 (post.delete.archive-visit-logs=true 인 경우에만 사용)
+// 원본 게시글이 없으므로 post_id는 외래 키 없이 값만 저장
+@Entity
+@Table(name = "visit_log_archive",
+        indexes = @Index(name = "idx_visit_log_archive_post_id", columnList = "post_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VisitLogArchive {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "ip_address", nullable = false)
+    private String ipAddress;
+
+    @Column(name = "visited_at", nullable = false)
+    private LocalDateTime visitedAt;
+
+    @Column(name = "user_agent")
+    private String userAgent;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -1,11 +1,11 @@
 package in.myblog.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 @Getter
@@ -19,32 +19,19 @@ public class PostSummaryDTO {
     private List<String> tags;
     private int likeCount;
 
+    // 목록 요청에 deviceId가 있을 때만 채워짐 (없으면 응답에서 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean liked;
+
     public PostSummaryDTO(Long id, String title, String authorName,
                           LocalDateTime createdAt, String content,
-                          String tagString, int likeCount) {
+                          List<String> tags, int likeCount) {
         this.id = id;
         this.title = title;
         this.authorName = authorName;
         this.createdAt = createdAt;
-        this.content = processContent(content);
-        this.tags = tagString != null ?
-                Arrays.asList(tagString.split(",")) :
-                new ArrayList<>();
+        this.content = content;
+        this.tags = tags != null ? tags : new ArrayList<>();
         this.likeCount = likeCount;
     }
-
-    private String processContent(String content) {
-        if (content != null) {
-            content = content
-                    .replaceAll("<img[^>]*(?:>|\\.{3}|\\s|$)", "")
-                    .replaceAll("!\\[[^\\]]*\\]\\([^)]+\\)", "")
-                    .replaceAll("https?://[^\\s]{20,}", "")
-                    .trim();
-
-            if (content.length() > 100) {
-                content = content.substring(0, 100) + "...";
-            }
-        }
-        return content;
-    }
 }
@@ -0,0 +1,17 @@
+package in.myblog.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 기반 게시글 목록 응답. 카운트 쿼리 없이 다음 페이지 존재 여부와 커서만 전달
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseCursorPostsDTO {
+    private List<PostSummaryDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
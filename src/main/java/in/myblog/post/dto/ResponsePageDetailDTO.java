@@ -23,7 +23,10 @@ public class ResponsePageDetailDTO {
     private int likeCount;
     private List<String> tags;
     private String authorName;
+    // 최신 댓글 첫 페이지만 포함, 나머지는 commentNextCursor로 댓글 API에서 조회
     private List<CommentListDto> commentListDtoList;
+    private long commentCount;
+    private String commentNextCursor;
 
     public ResponsePageDetailDTO(
             String title,
@@ -33,7 +36,9 @@ public class ResponsePageDetailDTO {
             int likeCount,
             String tagString,  // List<String> 대신 String으로 받기
             String authorName,
-            List<CommentListDto> commentListDtoList
+            List<CommentListDto> commentListDtoList,
+            long commentCount,
+            String commentNextCursor
     ) {
         this.title = title;
         this.content = content;
@@ -45,5 +50,7 @@ public class ResponsePageDetailDTO {
                 new ArrayList<>();
         this.authorName = authorName;
         this.commentListDtoList = commentListDtoList;
+        this.commentCount = commentCount;
+        this.commentNextCursor = commentNextCursor;
     }
 }
@@ -0,0 +1,15 @@
+package in.myblog.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagIndexStatsDTO {
+    private int tagCount;
+    private int postCount;
+    private long postingCount;
+    private long memoryBytes;
+}
@@ -0,0 +1,7 @@
+package in.myblog.post.dto;
+
+// 다중 태그 필터 조건: ANY = 하나라도 포함(OR), ALL = 모두 포함(AND)
+public enum TagMatch {
+    ANY,
+    ALL
+}
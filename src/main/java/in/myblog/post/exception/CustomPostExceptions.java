@@ -28,4 +28,22 @@ public class CustomPostExceptions {
             super(message, cause);
         }
     }
+
+    public static class TooManyPostIdsException extends RuntimeException {
+        public TooManyPostIdsException(int requested, int max) {
+            super(String.format("한 번에 조회할 수 있는 게시물은 최대 %d개입니다 (요청: %d개)", max, requested));
+        }
+    }
+
+    public static class InvalidCursorException extends RuntimeException {
+        public InvalidCursorException(String cursor) {
+            super(String.format("잘못된 커서입니다: %s", cursor));
+        }
+    }
+
+    public static class InvalidDeviceIdException extends RuntimeException {
+        public InvalidDeviceIdException() {
+            super("기기 ID가 비어 있습니다");
+        }
+    }
 }
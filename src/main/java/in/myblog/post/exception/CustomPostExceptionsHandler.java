@@ -37,4 +37,25 @@ public class CustomPostExceptionsHandler {
         response.put("message", ex.getMessage());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(CustomPostExceptions.InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursorException(CustomPostExceptions.InvalidCursorException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(CustomPostExceptions.TooManyPostIdsException.class)
+    public ResponseEntity<Map<String, String>> handleTooManyPostIdsException(CustomPostExceptions.TooManyPostIdsException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(CustomPostExceptions.InvalidDeviceIdException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidDeviceIdException(CustomPostExceptions.InvalidDeviceIdException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+}
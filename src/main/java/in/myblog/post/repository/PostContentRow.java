@@ -0,0 +1,7 @@
+package in.myblog.post.repository;
+
+// 본문만 필요한 일괄 작업용 조회 결과 (엔티티를 읽지 않아 변경 감지로 다른 칼럼을 덮어쓰지 않음)
+public interface PostContentRow {
+    Long getId();
+    String getContent();
+}
@@ -0,0 +1,29 @@
+package in.myblog.post.repository;
+
+import in.myblog.post.domain.PostImageRef;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostImageRefRepository extends JpaRepository<PostImageRef, Long> {
+
+    @Query("SELECT r.imageKey FROM PostImageRef r WHERE r.postId = :postId")
+    List<String> findImageKeysByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT r.postId FROM PostImageRef r WHERE r.imageKey = :imageKey")
+    List<Long> findPostIdsByImageKey(@Param("imageKey") String imageKey);
+
+    @Modifying
+    @Query("DELETE FROM PostImageRef r WHERE r.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostImageRef r WHERE r.postId = :postId AND r.imageKey IN :keys")
+    int deleteByPostIdAndImageKeyIn(@Param("postId") Long postId, @Param("keys") Collection<String> keys);
+}
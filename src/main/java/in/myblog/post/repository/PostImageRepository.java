@@ -0,0 +1,49 @@
+package in.myblog.post.repository;
+
+import in.myblog.post.domain.PostImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+
+    List<PostImage> findByImageKeyIn(Collection<String> imageKeys);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE PostImage pi SET pi.width = :width, pi.variantWidths = :variantWidths WHERE pi.imageKey = :imageKey")
+    int updateVariants(@Param("imageKey") String imageKey,
+                       @Param("width") int width,
+                       @Param("variantWidths") String variantWidths);
+
+    // 주어진 키 중 어떤 게시글에서도 참조되지 않는 키
+    @Query("SELECT pi.imageKey FROM PostImage pi WHERE pi.imageKey IN :keys " +
+            "AND NOT EXISTS (SELECT 1 FROM PostImageRef r WHERE r.imageKey = pi.imageKey)")
+    List<String> findUnreferencedAmong(@Param("keys") Collection<String> keys);
+
+    @Modifying
+    @Query("UPDATE PostImage pi SET pi.unreferencedSince = :now WHERE pi.imageKey IN :keys")
+    int markUnreferenced(@Param("keys") Collection<String> keys, @Param("now") LocalDateTime now);
+
+    // 참조 해제 시점이 비어 있는 행(동시에 해제된 게시글끼리 서로의 참조를 보고 지나친 경우)은 업로드 시각 기준
+    @Query("SELECT pi.imageKey FROM PostImage pi " +
+            "WHERE COALESCE(pi.unreferencedSince, pi.uploadedAt) < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM PostImageRef r WHERE r.imageKey = pi.imageKey) ORDER BY pi.id")
+    List<String> findUnreferencedKeys(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 스토리지에서 삭제된 키의 행 제거 (그사이 다시 게시글에 연결된 행은 남김)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PostImage pi WHERE pi.imageKey IN :keys " +
+            "AND NOT EXISTS (SELECT 1 FROM PostImageRef r WHERE r.imageKey = pi.imageKey)")
+    int deleteUnreferencedByImageKeyIn(@Param("keys") Collection<String> keys);
+}
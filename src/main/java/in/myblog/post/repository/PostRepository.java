@@ -1,13 +1,15 @@
 package in.myblog.post.repository;
 
-import in.myblog.like.domain.Like;
 import in.myblog.post.domain.Posts;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,9 +19,33 @@ public interface PostRepository extends JpaRepository<Posts, Long>{
     @Query("SELECT EXISTS (SELECT 1 FROM Posts p WHERE p.id = :postId)")
     boolean existsById(Long postId);
 
-    @Query("SELECT l FROM Like l WHERE l.post.id = :postId AND l.deviceId = :deviceId")
-    Optional<Like> findLikeByPostIdAndDeviceId(Long postId, String deviceId);
+    @Query("SELECT p.id AS id, p.content AS content FROM Posts p " +
+            "WHERE p.contentPreview IS NULL AND p.id > :afterId ORDER BY p.id")
+    List<PostContentRow> findWithoutPreviewAfter(@Param("afterId") Long afterId, Pageable pageable);
 
-    @Query("SELECT COUNT(l) FROM Like l WHERE l.post.id = :postId")
-    long countLikesByPostId(Long postId);
+    // 미리보기가 아직 없는 경우에만 채움 (그사이 수정되어 미리보기가 저장되었으면 0)
+    @Modifying
+    @Query("UPDATE Posts p SET p.contentPreview = :preview WHERE p.id = :postId AND p.contentPreview IS NULL")
+    int updateContentPreviewIfMissing(@Param("postId") Long postId, @Param("preview") String preview);
+
+    @Query("SELECT p FROM Posts p WHERE p.id > :afterId ORDER BY p.id")
+    List<Posts> findAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p.content FROM Posts p WHERE p.id = :postId")
+    Optional<String> findContentById(@Param("postId") Long postId);
+
+    // 읽어 둔 본문이 그대로인 경우에만 교체 (그사이 수정되었으면 0)
+    @Modifying
+    @Query("UPDATE Posts p SET p.content = :content WHERE p.id = :postId AND p.content = :expected")
+    int updateContentIfUnchanged(@Param("postId") Long postId,
+                                 @Param("expected") String expected,
+                                 @Param("content") String content);
+
+    @Query("SELECT p.likeCount FROM Posts p WHERE p.id = :postId")
+    Optional<Integer> findLikeCountById(@Param("postId") Long postId);
+
+    // 하위 데이터를 먼저 bulk 삭제한 뒤 호출 (엔티티 cascade를 거치지 않음)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Posts p where p.id = :postId")
+    int deleteByIdInBatch(@Param("postId") Long postId);
 }
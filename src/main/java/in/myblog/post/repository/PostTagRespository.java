@@ -14,11 +14,8 @@ public interface PostTagRespository extends JpaRepository<PostTags, Long> {
     void deleteByPostId(Long postId);
     @Modifying
     @Query("delete from PostTags pt where pt.post.id = :postId")
-    void deleteAllByPostIdInBatch(@Param("postId") Long postId);
+    int deleteAllByPostIdInBatch(@Param("postId") Long postId);
 
     @Query("SELECT pt FROM PostTags pt JOIN FETCH pt.tag WHERE pt.post.id = :postId")
     List<PostTags> findByPostId(@Param("postId") Long postId);
-
-    @Query("SELECT COUNT(pt) FROM PostTags pt WHERE pt.tag.id = :tagId")
-    long countByTagId(@Param("tagId") Long tagId);
 }
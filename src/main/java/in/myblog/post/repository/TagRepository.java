@@ -2,11 +2,35 @@ package in.myblog.post.repository;
 
 import in.myblog.post.domain.Tags;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tags, Long> {
-    Optional<Tags> findByName(String name);
+
+    // post_tags에 연결이 하나도 없는 태그에 확인 시각 기록 (anti-join)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE tags SET orphaned_at = :now WHERE orphaned_at IS NULL AND NOT EXISTS " +
+            "(SELECT 1 FROM post_tags pt WHERE pt.tag_id = tags.id)", nativeQuery = true)
+    int markOrphanTags(@Param("now") LocalDateTime now);
+
+    // 표시 이후 다시 게시글에 연결된 태그의 표시 해제
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE tags SET orphaned_at = NULL WHERE orphaned_at IS NOT NULL AND EXISTS " +
+            "(SELECT 1 FROM post_tags pt WHERE pt.tag_id = tags.id)", nativeQuery = true)
+    int unmarkLinkedTags();
+
+    // cutoff 이전에 표시된 뒤 계속 연결이 없는 태그 일괄 삭제
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM tags WHERE orphaned_at < :cutoff AND NOT EXISTS " +
+            "(SELECT 1 FROM post_tags pt WHERE pt.tag_id = tags.id)", nativeQuery = true)
+    int deleteOrphanTags(@Param("cutoff") LocalDateTime cutoff);
 }
@@ -2,7 +2,11 @@ package in.myblog.post.repository;
 
 import in.myblog.post.domain.TotalVisitCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -10,4 +14,12 @@ import java.util.Optional;
 @Repository
 public interface TotalVisitCountRepository extends JpaRepository<TotalVisitCount, Long> {
     Optional<TotalVisitCount> findByDate(LocalDate date);
+
+    // 해당 일자 행이 없으면 생성, 있으면 증가분만 더함 (date 유니크 키 기준, 노드 간 경합에도 행이 중복되지 않음)
+    // 유니크 키는 TotalVisitCountMigration이 기존 중복 행을 합친 뒤 보장
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO total_visit_count (date, count) VALUES (:date, :delta) " +
+            "ON DUPLICATE KEY UPDATE count = count + :delta", nativeQuery = true)
+    int addCount(@Param("date") LocalDate date, @Param("delta") long delta);
 }
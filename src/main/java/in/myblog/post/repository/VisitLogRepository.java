@@ -2,8 +2,24 @@ package in.myblog.post.repository;
 
 import in.myblog.post.domain.VisitLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface VisitLogRepository extends JpaRepository<VisitLog, Long> {
+
+    @Modifying
+    @Query("delete from VisitLog v where v.post.id = :postId")
+    int deleteAllByPostIdInBatch(@Param("postId") Long postId);
+
+    // 삭제 전 보관 테이블로 복사 (INSERT ... SELECT 한 번으로 처리, 애플리케이션으로 행을 읽지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO visit_log_archive (post_id, ip_address, visited_at, user_agent, archived_at) " +
+            "SELECT post_id, ip_address, visited_at, user_agent, :archivedAt FROM visit_log WHERE post_id = :postId",
+            nativeQuery = true)
+    int archiveByPostId(@Param("postId") Long postId, @Param("archivedAt") LocalDateTime archivedAt);
 }
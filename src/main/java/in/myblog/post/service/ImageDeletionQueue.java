@@ -0,0 +1,82 @@
+package in.myblog.post.service;
+
+import in.myblog.config.AfterCommit;
+import in.myblog.post.repository.PostImageRepository;
+import in.myblog.storage.BlobStore;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 삭제할 이미지 키를 커밋 이후 큐에 모았다가 저장소의 일괄 삭제(S3는 DeleteObjects)로 한 번에 최대 1000개씩 삭제
+// 삭제에 성공한 키만 post_images에서 제거하므로, 실패한 키는 OrphanImageCollector가 다음 주기에 다시 시도
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ImageDeletionQueue {
+
+    private final BlobStore blobStore;
+    private final PostImageRepository postImageRepository;
+
+    private final Queue<String> pendingKeys = new ConcurrentLinkedQueue<>();
+
+    // 트랜잭션이 롤백되면 이미지가 계속 쓰여야 하므로 커밋된 뒤에만 큐에 추가
+    public void enqueueAfterCommit(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> copy = new ArrayList<>(keys);
+        AfterCommit.run(() -> pendingKeys.addAll(copy));
+    }
+
+    public int getPendingCount() {
+        return pendingKeys.size();
+    }
+
+    @Scheduled(fixedDelayString = "${image.delete.flush-interval-ms:5000}")
+    public void flush() {
+        int batchSize = getBatchSize();
+        List<String> batch = new ArrayList<>(batchSize);
+        String key;
+        while ((key = pendingKeys.poll()) != null) {
+            batch.add(key);
+            if (batch.size() == batchSize) {
+                deleteBatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleteBatch(batch);
+        }
+    }
+
+    // 한 번에 삭제할 수 있는 최대 키 수 (S3는 1000)
+    public int getBatchSize() {
+        return blobStore.getMaxBatchDeleteSize();
+    }
+
+    // 최대 getBatchSize()개 키를 한 번의 요청으로 삭제하고 삭제된 키 목록 반환
+    public List<String> deleteBatch(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> deleted = blobStore.deleteAll(keys);
+        if (!deleted.isEmpty()) {
+            postImageRepository.deleteUnreferencedByImageKeyIn(deleted);
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,225 @@
+package in.myblog.post.service;
+
+import in.myblog.post.domain.PostImage;
+import in.myblog.post.repository.PostImageRepository;
+import in.myblog.storage.BlobStore;
+import in.myblog.storage.exception.CustomStorageExceptions;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// 업로드된 이미지를 한 번만 디코딩해 가로 크기별 JPEG 변형을 만들어 저장
+// 요청 스레드를 점유하지 않도록 크기가 제한된 전용 스레드 풀에서 처리하고, 큐가 가득 차면 변형 없이 원본만 사용
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ImageVariantGenerator {
+
+    private final BlobStore blobStore;
+    private final PostImageRepository postImageRepository;
+    private final PostImageRegistry postImageRegistry;
+
+    @Value("${image.variants.widths:480,960,1600}")
+    private int[] widths;
+
+    @Value("${image.variants.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${image.variants.threads:2}")
+    private int threads;
+
+    @Value("${image.variants.queue-capacity:32}")
+    private int queueCapacity;
+
+    // 가로 크기별 (원본 크기 - 변형 크기) 누적 바이트
+    private final Map<Integer, LongAdder> bytesSavedByWidth = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> generatedByWidth = new ConcurrentHashMap<>();
+    private final LongAdder skippedCount = new LongAdder();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        Arrays.sort(widths);
+        for (int width : widths) {
+            bytesSavedByWidth.put(width, new LongAdder());
+            generatedByWidth.put(width, new LongAdder());
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Image variant generation did not finish in time, {} uploads left", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    // 원본 저장 후 호출. 변형 생성은 비동기로 진행되며 완료되면 post_images에 가로 크기 목록을 기록
+    public void submit(String originalKey, byte[] originalBytes) {
+        try {
+            executor.execute(() -> generate(originalKey, originalBytes));
+        } catch (RejectedExecutionException e) {
+            skippedCount.increment();
+            log.warn("Image variant queue full, serving original only for {}", originalKey);
+        }
+    }
+
+    public static String variantKey(String originalKey, int width) {
+        int dot = originalKey.lastIndexOf('.');
+        int slash = originalKey.lastIndexOf('/');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return base + "_w" + width + ".jpg";
+    }
+
+    public Map<Integer, Long> getBytesSavedByWidth() {
+        return snapshot(bytesSavedByWidth);
+    }
+
+    public Map<Integer, Long> getGeneratedCountByWidth() {
+        return snapshot(generatedByWidth);
+    }
+
+    public long getSkippedCount() {
+        return skippedCount.sum();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private void generate(String originalKey, byte[] originalBytes) {
+        BufferedImage original;
+        try {
+            original = ImageIO.read(new ByteArrayInputStream(originalBytes));
+        } catch (IOException e) {
+            log.debug("Failed to decode image {}: {}", originalKey, e.getMessage());
+            return;
+        }
+        // GIF(애니메이션) 등 디코딩할 수 없는 형식이나 투명도가 있는 이미지는 JPEG로 바꾸지 않고 원본 사용
+        if (original == null || original.getColorModel().hasAlpha()) {
+            return;
+        }
+
+        List<Integer> generated = new ArrayList<>();
+        for (int width : widths) {
+            if (width >= original.getWidth()) {
+                break;
+            }
+            try {
+                byte[] encoded = encodeJpeg(resize(original, width));
+                if (encoded.length >= originalBytes.length) {
+                    // 재인코딩 결과가 원본보다 크면 더 큰 크기도 마찬가지이므로 중단
+                    break;
+                }
+                store(variantKey(originalKey, width), encoded);
+                generated.add(width);
+                generatedByWidth.get(width).increment();
+                bytesSavedByWidth.get(width).add(originalBytes.length - encoded.length);
+                log.debug("Stored {}px variant of {} ({} -> {} bytes)", width, originalKey, originalBytes.length, encoded.length);
+            } catch (IOException | CustomStorageExceptions.StorageOperationFailedException e) {
+                log.warn("Failed to create {}px variant of {}: {}", width, originalKey, e.getMessage());
+                break;
+            }
+        }
+
+        String variantWidths = generated.isEmpty() ? null
+                : generated.stream().map(String::valueOf).collect(Collectors.joining(","));
+        postImageRepository.updateVariants(originalKey, original.getWidth(), variantWidths);
+
+        if (variantWidths != null) {
+            try {
+                postImageRegistry.applyVariants(originalKey);
+            } catch (DataAccessException e) {
+                log.warn("Failed to add srcset for {} to saved posts: {}", originalKey, e.getMessage());
+            }
+        }
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+
+            BufferedImage scaled = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+        param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private void store(String key, byte[] bytes) {
+        blobStore.put(key, new ByteArrayInputStream(bytes), bytes.length, "image/jpeg");
+        // 게시글 본문의 srcset에 포함되면 원본과 함께 게시글에 연결되고, 쓰이지 않으면 유예 기간 후 정리됨
+        postImageRepository.save(new PostImage(key, LocalDateTime.now()));
+    }
+
+    private static Map<Integer, Long> snapshot(Map<Integer, LongAdder> counters) {
+        Map<Integer, Long> result = new TreeMap<>();
+        counters.forEach((width, counter) -> result.put(width, counter.sum()));
+        return result;
+    }
+}
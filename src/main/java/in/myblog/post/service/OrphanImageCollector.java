@@ -0,0 +1,54 @@
+package in.myblog.post.service;
+
+import in.myblog.post.repository.PostImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 업로드 후 게시글에 쓰이지 않았거나 게시글에서 빠진 이미지를 유예 기간이 지난 뒤 삭제
+// (작성 중인 글의 이미지가 저장 전에 지워지지 않도록 유예 기간을 둠)
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OrphanImageCollector {
+
+    private final PostImageRepository postImageRepository;
+    private final ImageDeletionQueue imageDeletionQueue;
+
+    @Value("${image.gc.grace-period-hours:24}")
+    private long gracePeriodHours;
+
+    // 삭제된 이미지 수 반환
+    @Scheduled(fixedDelayString = "${image.gc.interval-ms:3600000}",
+            initialDelayString = "${image.gc.initial-delay-ms:300000}")
+    public int collect() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(gracePeriodHours);
+        int batchSize = imageDeletionQueue.getBatchSize();
+        int removed = 0;
+
+        while (true) {
+            List<String> keys = postImageRepository.findUnreferencedKeys(cutoff, PageRequest.of(0, batchSize));
+            if (keys.isEmpty()) {
+                break;
+            }
+
+            List<String> deleted = imageDeletionQueue.deleteBatch(keys);
+            removed += deleted.size();
+            // 이번 배치에서 하나도 지우지 못했다면 스토리지 장애로 보고 다음 주기에 재시도
+            if (deleted.isEmpty() || keys.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (removed > 0) {
+            log.info("Removed {} unreferenced images older than {} hours", removed, gracePeriodHours);
+        }
+        return removed;
+    }
+}
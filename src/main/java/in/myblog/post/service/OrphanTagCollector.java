@@ -0,0 +1,70 @@
+package in.myblog.post.service;
+
+import in.myblog.cache.CacheInvalidationBus;
+import in.myblog.post.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 어떤 게시글에도 연결되지 않은 태그를 주기적으로 한 번의 DELETE로 정리
+// 게시글 수정/삭제 트랜잭션에서 태그마다 카운트 + 삭제하던 작업을 백그라운드로 분리
+// 연결이 끊긴 태그는 먼저 표시만 하고 유예 기간 뒤에 삭제 (표시된 태그를 다시 쓰는 TagResolver가 표시를 지우므로,
+// 캐시된 태그 ID로 게시글을 저장하는 도중 태그가 삭제되어 외래 키 오류가 나지 않음)
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OrphanTagCollector {
+
+    private final TagRepository tagRepository;
+    private final TagResolver tagResolver;
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @Value("${tag.orphan-gc.grace-period-minutes:10}")
+    private long gracePeriodMinutes;
+
+    // 삭제된 태그 수 반환
+    @Scheduled(fixedDelayString = "${tag.orphan-gc.interval-ms:3600000}",
+            initialDelayString = "${tag.orphan-gc.initial-delay-ms:60000}")
+    public int collect() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed;
+        int marked;
+        try {
+            tagRepository.unmarkLinkedTags();
+            removed = tagRepository.deleteOrphanTags(now.minusMinutes(gracePeriodMinutes));
+            marked = tagRepository.markOrphanTags(now);
+        } catch (DataAccessException e) {
+            // 실패해도 다음 주기에 다시 정리
+            log.warn("Failed to collect orphan tags: {}", e.getMessage());
+            return 0;
+        }
+
+        if (marked > 0 || removed > 0) {
+            // 표시된 태그는 캐시 대신 DB 조회를 거쳐 표시가 지워지도록, 삭제된 태그는 다시 쓰이지 않도록 모든 서버의 캐시를 비움
+            log.debug("Marked {} orphan tags", marked);
+            tagResolver.invalidateAll();
+            cacheInvalidationBus.publish(TagResolver.CACHE_NAME, null);
+        }
+
+        if (removed > 0) {
+            log.info("Removed {} orphan tags", removed);
+            Cache tags = cacheManager.getCache("tags");
+            if (tags != null) {
+                tags.clear();
+            }
+            // 다른 서버의 태그 캐시도 비움
+            cacheInvalidationBus.publish("tags", null);
+        } else {
+            log.debug("No orphan tags to remove");
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,59 @@
+package in.myblog.post.service;
+
+import in.myblog.comment.repository.CommentRepository;
+import in.myblog.like.repository.LikeRepository;
+import in.myblog.like.service.LikeCountBuffer;
+import in.myblog.post.repository.PostRepository;
+import in.myblog.post.repository.PostTagRespository;
+import in.myblog.post.repository.VisitLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 게시글과 하위 데이터(좋아요, 댓글, 태그 연결, 방문 로그)를 테이블별 DELETE ... WHERE post_id = ? 한 번씩으로 삭제
+// 하위 엔티티를 영속성 컨텍스트로 읽어 한 건씩 지우지 않으므로 방문 로그/댓글 수와 관계없이 메모리 사용량이 일정
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostDeleter {
+
+    private final PostRepository postRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final PostTagRespository postTagRepository;
+    private final VisitLogRepository visitLogRepository;
+    private final PostImageRegistry postImageRegistry;
+    private final LikeCountBuffer likeCountBuffer;
+
+    // true면 방문 로그를 visit_log_archive로 옮긴 뒤 삭제
+    @Value("${post.delete.archive-visit-logs:false}")
+    private boolean archiveVisitLogs;
+
+    // 호출한 트랜잭션 안에서 실행 (하위 데이터와 게시글이 함께 커밋/롤백되도록)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void delete(Long postId) {
+        // 이미지는 커밋 이후 ImageDeletionQueue가 일괄 삭제
+        postImageRegistry.releasePost(postId);
+
+        int likes = likeRepository.deleteAllByPostIdInBatch(postId);
+        int comments = commentRepository.deleteAllByPostIdInBatch(postId);
+        int postTags = postTagRepository.deleteAllByPostIdInBatch(postId);
+
+        int archived = 0;
+        if (archiveVisitLogs) {
+            archived = visitLogRepository.archiveByPostId(postId, LocalDateTime.now());
+        }
+        int visitLogs = visitLogRepository.deleteAllByPostIdInBatch(postId);
+
+        postRepository.deleteByIdInBatch(postId);
+        likeCountBuffer.discardAfterCommit(postId);
+
+        log.debug("Deleted post {} with {} likes, {} comments, {} tag links, {} visit logs ({} archived)",
+                postId, likes, comments, postTags, visitLogs, archived);
+    }
+}
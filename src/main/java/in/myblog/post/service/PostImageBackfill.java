@@ -0,0 +1,60 @@
+package in.myblog.post.service;
+
+import in.myblog.post.domain.Posts;
+import in.myblog.post.repository.PostImageRepository;
+import in.myblog.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// post_images 테이블 도입 이전에 작성된 게시글의 이미지 키를 기동 시 한 번 기록
+// 테이블이 비어 있을 때만 실행
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostImageBackfill {
+
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostImageRegistry postImageRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${post.images.backfill-batch-size:100}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (postImageRepository.count() > 0) {
+            return;
+        }
+
+        long lastId = 0L;
+        int scanned = 0;
+
+        while (true) {
+            long afterId = lastId;
+            List<Posts> batch = transactionTemplate.execute(status -> {
+                List<Posts> posts = postRepository.findAfter(afterId, PageRequest.of(0, batchSize));
+                posts.forEach(post -> postImageRegistry.syncPostImages(post.getId(), post.getContent()));
+                return posts;
+            });
+
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            scanned += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        if (scanned > 0) {
+            log.info("Recorded image references for {} posts", scanned);
+        }
+    }
+}
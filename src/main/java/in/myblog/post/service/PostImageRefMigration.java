@@ -0,0 +1,44 @@
+package in.myblog.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// post_images.post_id(키당 게시글 하나)에 기록된 참조를 post_image_refs로 옮기는 기동 시 마이그레이션
+// 옮긴 뒤 post_id 칼럼을 제거하므로 한 번만 실행됨
+// PostImageBackfill보다 먼저 실행되어야 하므로 우선순위를 가장 높게 둠
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostImageRefMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void migrate() {
+        Integer legacyColumns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'post_images' AND column_name = 'post_id'",
+                Integer.class);
+        if (legacyColumns == null || legacyColumns == 0) {
+            return;
+        }
+
+        int copied = jdbcTemplate.update(
+                "INSERT INTO post_image_refs (image_key, post_id) " +
+                        "SELECT image_key, post_id FROM post_images pi WHERE pi.post_id IS NOT NULL " +
+                        "AND NOT EXISTS (SELECT 1 FROM post_image_refs r " +
+                        "WHERE r.image_key = pi.image_key AND r.post_id = pi.post_id)");
+        jdbcTemplate.execute("ALTER TABLE post_images DROP COLUMN post_id");
+
+        log.info("Moved {} image references to post_image_refs", copied);
+    }
+}
@@ -0,0 +1,220 @@
+package in.myblog.post.service;
+
+import in.myblog.post.domain.PostImage;
+import in.myblog.post.repository.PostImageRefRepository;
+import in.myblog.post.repository.PostImageRepository;
+import in.myblog.post.repository.PostRepository;
+import in.myblog.storage.BlobStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 게시글별로 사용 중인 이미지 키를 작성/수정 시점에 post_image_refs에 기록
+// 삭제 시 본문을 다시 파싱하지 않고 post_image_refs에서 키를 조회해, 다른 게시글이 참조하지 않는 키만 일괄 삭제
+@RequiredArgsConstructor
+@Component
+public class PostImageRegistry {
+
+    private static final Pattern IMG_TAG = Pattern.compile("<img\\b[^>]*>");
+    private static final Pattern SRC_ATTR = Pattern.compile("\\ssrc=\"([^\"]+)\"");
+    private static final Pattern SRCSET_ATTR = Pattern.compile("\\ssrcset=\"([^\"]*)\"");
+
+    private final BlobStore blobStore;
+    private final PostImageRepository postImageRepository;
+    private final PostImageRefRepository postImageRefRepository;
+    private final PostRepository postRepository;
+    private final PostVersionRegistry postVersionRegistry;
+    private final ImageDeletionQueue imageDeletionQueue;
+    private final JdbcTemplate jdbcTemplate;
+
+    // srcset과 함께 넣을 sizes 속성 (본문 칼럼 폭 기준)
+    @Value("${image.variants.sizes:(max-width: 700px) 100vw, 700px}")
+    private String sizes;
+
+    // 업로드 직후 기록 (게시글에 연결되기 전까지는 미사용 상태)
+    public void recordUpload(String key) {
+        postImageRepository.save(new PostImage(key, LocalDateTime.now()));
+    }
+
+    // 본문에 포함된 이미지를 게시글에 연결하고, 본문에서 빠진 이미지는 연결 해제
+    // 다른 게시글도 참조하지 않게 된 이미지는 바로 지우지 않고 유예 기간 뒤 OrphanImageCollector가 삭제
+    public void syncPostImages(Long postId, String content) {
+        Set<String> keys = extractKeys(content);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> removed = new ArrayList<>(postImageRefRepository.findImageKeysByPostId(postId));
+        removed.removeAll(keys);
+        if (!removed.isEmpty()) {
+            postImageRefRepository.deleteByPostIdAndImageKeyIn(postId, removed);
+            release(removed, now);
+        }
+
+        if (!keys.isEmpty()) {
+            attach(postId, keys, now);
+        }
+    }
+
+    // 게시글 삭제 시 호출. 연결된 이미지를 해제하고, 다른 게시글이 참조하지 않는 이미지만 커밋 후 삭제 큐에 추가
+    public void releasePost(Long postId) {
+        List<String> keys = postImageRefRepository.findImageKeysByPostId(postId);
+        if (keys.isEmpty()) {
+            return;
+        }
+        postImageRefRepository.deleteByPostId(postId);
+        imageDeletionQueue.enqueueAfterCommit(release(keys, LocalDateTime.now()));
+    }
+
+    // 작성/수정 시 본문의 이미지 중 리사이즈 변형이 준비된 이미지에 srcset/sizes 속성 추가
+    // 변형 생성은 업로드 직후 비동기로 진행되므로, 저장 시점에 아직 준비되지 않은 이미지는 생성이 끝난 뒤 applyVariants에서 추가
+    public String addSrcset(String content) {
+        if (content == null || content.isEmpty()) {
+            return content;
+        }
+
+        Set<String> candidateKeys = new LinkedHashSet<>();
+        Matcher tags = IMG_TAG.matcher(content);
+        while (tags.find()) {
+            String tag = tags.group();
+            if (!SRCSET_ATTR.matcher(tag).find()) {
+                String key = srcKey(tag);
+                if (key != null) {
+                    candidateKeys.add(key);
+                }
+            }
+        }
+        if (candidateKeys.isEmpty()) {
+            return content;
+        }
+
+        Map<String, String> srcsetByKey = new HashMap<>();
+        for (PostImage image : postImageRepository.findByImageKeyIn(candidateKeys)) {
+            if (image.getVariantWidths() != null && image.getWidth() != null) {
+                srcsetByKey.put(image.getImageKey(), buildSrcset(image));
+            }
+        }
+        if (srcsetByKey.isEmpty()) {
+            return content;
+        }
+
+        StringBuilder rewritten = new StringBuilder(content.length() + srcsetByKey.size() * 256);
+        tags.reset();
+        while (tags.find()) {
+            String tag = tags.group();
+            String key = SRCSET_ATTR.matcher(tag).find() ? null : srcKey(tag);
+            String srcset = key != null ? srcsetByKey.get(key) : null;
+            String replacement = srcset == null ? tag : insertAttributes(tag,
+                    " srcset=\"" + srcset + "\" sizes=\"" + sizes + "\"");
+            tags.appendReplacement(rewritten, Matcher.quoteReplacement(replacement));
+        }
+        tags.appendTail(rewritten);
+        return rewritten.toString();
+    }
+
+    // 변형 생성이 게시글 저장보다 늦게 끝난 경우, 이미 저장된 본문에 srcset 추가 (ImageVariantGenerator가 호출)
+    // srcset에 새로 들어간 변형 키도 게시글에 연결해 OrphanImageCollector가 지우지 않도록 함
+    // 그사이 게시글이 수정되었다면 덮어쓰지 않음 (수정 시 addSrcset이 다시 적용됨)
+    @Transactional
+    public void applyVariants(String imageKey) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long postId : postImageRefRepository.findPostIdsByImageKey(imageKey)) {
+            String content = postRepository.findContentById(postId).orElse(null);
+            String rewritten = addSrcset(content);
+            if (content != null && !content.equals(rewritten)
+                    && postRepository.updateContentIfUnchanged(postId, content, rewritten) > 0) {
+                attach(postId, extractKeys(rewritten), now);
+                postVersionRegistry.bumpPost(postId);
+            }
+        }
+    }
+
+    // 본문의 img 태그 src와 srcset에 포함된 스토리지 키
+    Set<String> extractKeys(String content) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (content == null || content.isEmpty()) {
+            return keys;
+        }
+        Matcher tags = IMG_TAG.matcher(content);
+        while (tags.find()) {
+            String tag = tags.group();
+            String key = srcKey(tag);
+            if (key != null) {
+                keys.add(key);
+            }
+            Matcher srcset = SRCSET_ATTR.matcher(tag);
+            if (srcset.find()) {
+                for (String candidate : srcset.group(1).split(",")) {
+                    String url = candidate.trim().split("\\s+")[0];
+                    String candidateKey = blobStore.keyFromUrl(url);
+                    if (candidateKey != null) {
+                        keys.add(candidateKey);
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    private String srcKey(String imgTag) {
+        Matcher src = SRC_ATTR.matcher(imgTag);
+        return src.find() ? blobStore.keyFromUrl(src.group(1)) : null;
+    }
+
+    private String buildSrcset(PostImage image) {
+        StringJoiner srcset = new StringJoiner(", ");
+        for (String width : image.getVariantWidths().split(",")) {
+            String variantKey = ImageVariantGenerator.variantKey(image.getImageKey(), Integer.parseInt(width));
+            srcset.add(blobStore.url(variantKey) + " " + width + "w");
+        }
+        srcset.add(blobStore.url(image.getImageKey()) + " " + image.getWidth() + "w");
+        return srcset.toString();
+    }
+
+    private static String insertAttributes(String imgTag, String attributes) {
+        int end = imgTag.endsWith("/>") ? imgTag.length() - 2 : imgTag.length() - 1;
+        while (end > 0 && Character.isWhitespace(imgTag.charAt(end - 1))) {
+            end--;
+        }
+        return imgTag.substring(0, end) + attributes + imgTag.substring(end);
+    }
+
+    // 참조가 모두 사라진 키에 해제 시각을 기록하고 그 키 목록 반환
+    private List<String> release(Collection<String> keys, LocalDateTime now) {
+        List<String> unreferenced = postImageRepository.findUnreferencedAmong(keys);
+        if (!unreferenced.isEmpty()) {
+            postImageRepository.markUnreferenced(unreferenced, now);
+        }
+        return unreferenced;
+    }
+
+    // post_images에 없는 키(기록 이전에 업로드된 이미지)도 함께 등록하도록 upsert 한 번으로 처리한 뒤 참조 추가
+    private void attach(Long postId, Set<String> keys, LocalDateTime now) {
+        StringBuilder imagesSql = new StringBuilder(
+                "INSERT INTO post_images (image_key, uploaded_at, unreferenced_since) VALUES ");
+        StringBuilder refsSql = new StringBuilder(
+                "INSERT INTO post_image_refs (image_key, post_id) VALUES ");
+        List<Object> imageArgs = new ArrayList<>(keys.size() * 2);
+        List<Object> refArgs = new ArrayList<>(keys.size() * 2);
+        Timestamp uploadedAt = Timestamp.valueOf(now);
+        for (String key : keys) {
+            imagesSql.append(imageArgs.isEmpty() ? "(?, ?, NULL)" : ", (?, ?, NULL)");
+            imageArgs.add(key);
+            imageArgs.add(uploadedAt);
+            refsSql.append(refArgs.isEmpty() ? "(?, ?)" : ", (?, ?)");
+            refArgs.add(key);
+            refArgs.add(postId);
+        }
+        imagesSql.append(" ON DUPLICATE KEY UPDATE unreferenced_since = NULL");
+        // 이미 연결된 키는 그대로 둠 (VALUES() 함수 대신 MySQL 8.0.19+의 행 별칭 사용)
+        refsSql.append(" AS new ON DUPLICATE KEY UPDATE post_id = new.post_id");
+        jdbcTemplate.update(imagesSql.toString(), imageArgs.toArray());
+        jdbcTemplate.update(refsSql.toString(), refArgs.toArray());
+    }
+}
@@ -0,0 +1,54 @@
+package in.myblog.post.service;
+
+import in.myblog.post.repository.PostContentRow;
+import in.myblog.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// content_preview 컬럼 추가 이전에 작성된 게시글의 미리보기를 기동 시 배치 단위로 채움
+// 요청을 받는 중에 실행되므로 id/본문만 읽고 content_preview만 조건부로 갱신 (그사이 수정된 게시글을 덮어쓰지 않음)
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostPreviewBackfill {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${post.preview.backfill-batch-size:100}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0L;
+        int filled = 0;
+
+        while (true) {
+            long afterId = lastId;
+            List<PostContentRow> batch = transactionTemplate.execute(status -> {
+                List<PostContentRow> posts = postRepository.findWithoutPreviewAfter(afterId, PageRequest.of(0, batchSize));
+                posts.forEach(post -> postRepository.updateContentPreviewIfMissing(
+                        post.getId(), PostPreviewGenerator.generate(post.getContent())));
+                return posts;
+            });
+
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            filled += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        if (filled > 0) {
+            log.info("Backfilled content previews for {} posts", filled);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package in.myblog.post.service;
+
+import java.util.regex.Pattern;
+
+// 목록에 노출할 본문 미리보기 생성. 게시글 작성/수정 시 한 번만 계산해 posts.content_preview에 저장
+public final class PostPreviewGenerator {
+
+    private static final int SOURCE_LENGTH = 300;
+    private static final int PREVIEW_LENGTH = 100;
+
+    private static final Pattern HTML_IMAGE = Pattern.compile("<img[^>]*(?:>|\\.{3}|\\s|$)");
+    private static final Pattern MARKDOWN_IMAGE = Pattern.compile("!\\[[^\\]]*\\]\\([^)]+\\)");
+    private static final Pattern LONG_URL = Pattern.compile("https?://[^\\s]{20,}");
+
+    private PostPreviewGenerator() {
+        throw new AssertionError("This class should not be instantiated.");
+    }
+
+    public static String generate(String content) {
+        if (content == null) {
+            return "";
+        }
+
+        // 본문 앞 300자만 대상으로 이미지 태그, 마크다운 이미지, 긴 URL 제거
+        String preview = content.length() > SOURCE_LENGTH ? content.substring(0, SOURCE_LENGTH) : content;
+        preview = HTML_IMAGE.matcher(preview).replaceAll("");
+        preview = MARKDOWN_IMAGE.matcher(preview).replaceAll("");
+        preview = LONG_URL.matcher(preview).replaceAll("").trim();
+
+        if (preview.length() > PREVIEW_LENGTH) {
+            preview = preview.substring(0, PREVIEW_LENGTH) + "...";
+        }
+        return preview;
+    }
+}
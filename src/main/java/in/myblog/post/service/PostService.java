@@ -10,6 +10,7 @@ public interface PostService {
     Long updatePost(Long postId, String title, String content, Long authorId, List<String> tags);
     void deletePost(Long postId, Long authorId) ;
     ResponsePageDetailDTO getPost(Long postId, String ipAddress, String userAgent) ;
-    Page<PostSummaryDTO> getRecentPosts(int page, int size, List<String> tags);
+    Page<PostSummaryDTO> getRecentPosts(int page, int size, List<String> tags, TagMatch tagMatch);
+    ResponseCursorPostsDTO getRecentPostsByCursor(String cursor, int size, List<String> tags, TagMatch tagMatch);
     LikeResponseDTO likePost(Long postId, String deviceId);
 }
@@ -1,26 +1,26 @@
 package in.myblog.post.service;
 
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import in.myblog.comment.domain.QComments;
+import in.myblog.cache.CacheInvalidationBus;
 import in.myblog.comment.dto.CommentListDto;
-import in.myblog.comment.repository.CommentRepository;
-import in.myblog.like.domain.Like;
-import in.myblog.like.repository.LikeRepository;
+import in.myblog.comment.repository.CommentQueryRepository;
+import in.myblog.config.KeysetCursor;
+import in.myblog.like.service.LikeCountBuffer;
+import in.myblog.like.service.LikeService;
 import in.myblog.post.domain.*;
 import in.myblog.post.dto.*;
 import in.myblog.post.exception.CustomPostExceptions;
 import in.myblog.post.repository.PostRepository;
 import in.myblog.post.repository.PostTagRespository;
 import in.myblog.post.repository.TagRepository;
-import in.myblog.post.repository.VisitLogRepository;
+import in.myblog.storage.BlobStore;
+import in.myblog.storage.exception.CustomStorageExceptions;
 import in.myblog.user.domain.QUsers;
 import in.myblog.user.domain.Users;
 import in.myblog.user.exception.CustomUserExceptions;
@@ -30,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
@@ -37,16 +38,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.querydsl.core.types.Projections.constructor;
-import static in.myblog.like.domain.QLike.like;
 import static in.myblog.post.domain.QPostTags.postTags;
 import static in.myblog.post.domain.QPosts.posts;
-import static in.myblog.user.domain.QUsers.users;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -56,24 +55,32 @@ public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
     private final TagRepository tagRepository;
     private final PostTagRespository postTagRepository;
-    private final VisitLogRepository visitLogRepository;
+    private final VisitLogWriter visitLogWriter;
     private final UserRepository userRepository;
-    private final LikeRepository likeRepository;
+    private final LikeService likeService;
+    private final LikeCountBuffer likeCountBuffer;
     private final JPAQueryFactory queryFactory;
-    private final CommentRepository commentRepository;
-    private final AmazonS3 amazonS3;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
-
-    @Value("${cloud.aws.credentials.access-key}")
-    private String accessKey;
-
-    @Value("${cloud.aws.credentials.secret-key}")
-    private String secretKey;
-
-    @Value("${cloud.aws.region.static}")
-    private String region;
+    private final PostSummaryLoader postSummaryLoader;
+    private final PostVersionRegistry postVersionRegistry;
+    private final TagPostIndex tagPostIndex;
+    private final TagResolver tagResolver;
+    private final PostDeleter postDeleter;
+    private final PostImageRegistry postImageRegistry;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final BlobStore blobStore;
+    private final CommentQueryRepository commentQueryRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // 커서 목록 한 페이지 최대 게시글 수
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 좋아요 상태 일괄 조회 시 한 번에 받을 수 있는 최대 게시글 수
+    @Value("${like.status.max-ids:50}")
+    private int maxLikeStatusIds;
+
+    // 게시글 상세에 함께 내려주는 최신 댓글 수
+    @Value("${post.detail.comment-page-size:20}")
+    private int detailCommentPageSize;
 
     @Transactional
     @CacheEvict(value = "tags", allEntries = true)
@@ -81,18 +88,28 @@ public class PostServiceImpl implements PostService {
         Users user = userRepository.findById(authorId)
                 .orElseThrow(CustomUserExceptions.UserNotFoundException::new);
 
+        // 리사이즈 변형이 준비된 이미지에 srcset 추가
+        content = postImageRegistry.addSrcset(content);
+
         Posts post = Posts.builder()
                 .title(title)
                 .content(content)  // 이미 이미지 URL이 포함된 content
+                .contentPreview(PostPreviewGenerator.generate(content))
                 .author(user)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
         // 태그 자동 생성 및 연결
-        createAndConnectTags(post, tags);
+        List<String> tagNames = createAndConnectTags(post, tags);
 
         Posts savedPost = postRepository.save(post);
+        postImageRegistry.syncPostImages(savedPost.getId(), content);
+
+        tagPostIndex.indexPostAfterCommit(savedPost.getId(), tagNames);
+        postVersionRegistry.bumpList();
+        // 이 서버의 "tags" 캐시는 @CacheEvict로, 다른 서버는 무효화 이벤트로 비움
+        cacheInvalidationBus.publish("tags", null);
 
         return savedPost.getId();
     }
@@ -103,93 +120,68 @@ public class PostServiceImpl implements PostService {
         // 1. 게시물과 작성자 검증
         Posts post = validatePostAndAuthor(postId, authorId);
 
-        // 2. 삭제될 태그 ID 미리 조회
-        List<Long> tagIds = getTagIdsFromPost(post);
-
-        // 3. 게시물 기본 정보 업데이트
-        // 기존 이미지와 새 이미지가 모두 포함된 content
+        // 2. 게시물 기본 정보 업데이트
+        // 기존 이미지와 새 이미지가 모두 포함된 content (리사이즈 변형이 준비된 이미지에 srcset 추가)
+        content = postImageRegistry.addSrcset(content);
         post.updateTitle(title)
                 .updateContent(content)
+                .updateContentPreview(PostPreviewGenerator.generate(content))
                 .updateUpdatedAt();
 
-        // 4. 태그 업데이트
-        updatePostTags(post, tags);
+        // 3. 태그 업데이트 (연결이 끊긴 태그는 OrphanTagCollector가 주기적으로 정리)
+        List<String> tagNames = updatePostTags(post, tags);
+        tagPostIndex.indexPostAfterCommit(postId, tagNames);
+        cacheInvalidationBus.publish("tags", null);
+        postImageRegistry.syncPostImages(postId, content);
 
-        // 5. 고아 태그 정리
-        cleanupOrphanedTags(tagIds);
+        // 4. 조건부 GET 버전 갱신 (커밋 후)
+        postVersionRegistry.bumpPost(postId);
+        postVersionRegistry.bumpList();
 
-        // 6. 저장 및 반환
+        // 5. 저장 및 반환
         return postRepository.save(post).getId();
     }
 
     @Transactional
     public void deletePost(Long postId, Long authorId) {
         // 1. 게시물과 작성자 검증
-        Posts post = validatePostAndAuthor(postId, authorId);
-
-        // 2. 삭제될 태그 ID 미리 조회
-        List<Long> tagIds = getTagIdsFromPost(post);
+        validatePostAndAuthor(postId, authorId);
 
-        // 3. S3에서 이미지 삭제
-        deleteImagesFromContent(post.getContent());
+        // 2. 연관 데이터와 게시물을 bulk DELETE로 삭제
+        // (이미지는 커밋 후 일괄 삭제, 연결이 끊긴 태그는 OrphanTagCollector가 주기적으로 정리)
+        deletePostAndAssociatedData(postId);
+        tagPostIndex.removePostAfterCommit(postId);
 
-        // 4. 연관 데이터 삭제
-        deleteAssociatedData(post);
-
-        // 5. 게시물 삭제
-        postRepository.delete(post);
-
-        // 6. 고아 태그 정리
-        cleanupOrphanedTags(tagIds);
+        // 3. 조건부 GET 버전 갱신 (커밋 후)
+        postVersionRegistry.bumpPost(postId);
+        postVersionRegistry.bumpList();
     }
 
-    // S3에 이미지 업로드
+    // 저장소(S3 또는 로컬 디스크)에 이미지 업로드
     public String uploadImage(MultipartFile image) {
         try {
-            // 파일 메타데이터 설정
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType(image.getContentType());
-            metadata.setContentLength(image.getSize());
+            // 원본 저장과 리사이즈 변형 생성에 같은 바이트를 사용하도록 한 번만 읽음
+            byte[] bytes = image.getBytes();
 
             // 파일 이름 생성
             String originalFilename = image.getOriginalFilename();
             String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
             String key = "posts/" + UUID.randomUUID().toString() + extension;
 
-            // S3에 업로드
-            amazonS3.putObject(new PutObjectRequest(
-                    bucket,
-                    key,
-                    image.getInputStream(),
-                    metadata
-            ));
+            // 저장소에 업로드
+            blobStore.put(key, new ByteArrayInputStream(bytes), bytes.length, image.getContentType());
 
-            // URL 반환
-            return amazonS3.getUrl(bucket, key).toString();
-        } catch (IOException e) {
-            log.error("Failed to upload image to S3: {}", e.getMessage());
-            throw new CustomPostExceptions.ImageUploadFailedException("Failed to upload image to S3", e);
-        }
-    }
+            // 게시글에 연결되지 않은 업로드는 유예 기간 후 정리되도록 기록
+            postImageRegistry.recordUpload(key);
 
-    // S3에서 이미지 삭제
-    private void deleteImagesFromContent(String content) {
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("<img[^>]+src=\"([^\"]+)\"[^>]*>");
-        java.util.regex.Matcher matcher = pattern.matcher(content);
-
-        while (matcher.find()) {
-            String imageUrl = matcher.group(1);
-            // S3 URL에서 키 추출
-            if (imageUrl.contains(bucket + ".s3.")) {
-                try {
-                    String key = imageUrl.substring(imageUrl.indexOf(bucket) + bucket.length() + 1);
-                    // URL 디코딩이 필요할 수 있음
-                    key = java.net.URLDecoder.decode(key, "UTF-8");
-                    amazonS3.deleteObject(bucket, key);
-                } catch (Exception e) {
-                    log.error("Failed to delete image from S3: {}", e.getMessage());
-                }
-            }
+            // 가로 크기별 변형은 별도 스레드 풀에서 생성
+            imageVariantGenerator.submit(key, bytes);
+
+            // URL 반환
+            return blobStore.url(key);
+        } catch (IOException | CustomStorageExceptions.StorageOperationFailedException e) {
+            log.error("Failed to upload image: {}", e.getMessage());
+            throw new CustomPostExceptions.ImageUploadFailedException("Failed to upload image", e);
         }
     }
 
@@ -207,138 +199,154 @@ public class PostServiceImpl implements PostService {
         return post;
     }
 
-    private void updatePostTags(Posts post, List<String> newTags) {
+    private List<String> updatePostTags(Posts post, List<String> newTags) {
         // 기존 태그 연결 제거
         postTagRepository.deleteByPostId(post.getId());
         post.getPostTags().clear();
 
         // 새로운 태그 생성 및 연결
-        if (newTags != null && !newTags.isEmpty()) {
-            createAndConnectTags(post, newTags);
-        }
+        return createAndConnectTags(post, newTags);
     }
 
-    private List<Long> getTagIdsFromPost(Posts post) {
-        return postTagRepository.findByPostId(post.getId())
-                .stream()
-                .map(postTag -> postTag.getTag().getId())
-                .collect(Collectors.toList());
-    }
-
-    private void deleteAssociatedData(Posts post) {
+    private void deletePostAndAssociatedData(Long postId) {
         try {
-            Long postId = post.getId();
-            likeRepository.deleteByPostId(postId);
-            commentRepository.deleteByPostId(postId);
-            postTagRepository.deleteByPostId(postId);
+            postDeleter.delete(postId);
         } catch (Exception e) {
-            log.error("Failed to delete associated data for post {}: {}", post.getId(), e.getMessage(), e);
+            log.error("Failed to delete associated data for post {}: {}", postId, e.getMessage(), e);
             throw new CustomPostExceptions.PostDeleteFailedException();
         }
     }
 
-    private void cleanupOrphanedTags(List<Long> tagIds) {
-        if (!tagIds.isEmpty()) {
-            try {
-                cleanupUnusedTags(tagIds);
-            } catch (Exception e) {
-                log.warn("Failed to cleanup orphaned tags: {}", e.getMessage(), e);
-                // 태그 정리 실패는 전체 작업을 실패시키지 않도록 함
-            }
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDTO> getRecentPosts(int page, int size, List<String> tags, TagMatch tagMatch) {
+        Pageable pageable = PageRequest.of(page, size);
+
+        // 태그 필터는 메모리 역색인으로 ID 집합을 구한 뒤 해당 페이지만 PK로 조회 (카운트 쿼리 없음)
+        if (hasTags(tags) && tagPostIndex.isReady()) {
+            long[] matched = tagPostIndex.findPostIds(tags, tagMatch);
+            List<Long> pageIds = newestFirst(matched, Long.MAX_VALUE, (int) pageable.getOffset(), size);
+            return new PageImpl<>(postSummaryLoader.load(pageIds), pageable, matched.length);
         }
+
+        // 1. 페이지에 해당하는 게시글 ID만 조회 (created_at, id 인덱스)
+        JPAQuery<Long> idQuery = postIdQuery(tags, tagMatch)
+                .orderBy(posts.createdAt.desc(), posts.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
+
+        // 2. 해당 ID들의 요약 정보와 태그를 IN 쿼리로 채움
+        List<PostSummaryDTO> content = postSummaryLoader.load(idQuery.fetch());
+
+        // 카운트 쿼리는 조인 없이 posts만 대상으로
+        JPAQuery<Long> countQuery = postIdQuery(tags, tagMatch)
+                .select(posts.count());
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
-    private void cleanupUnusedTags(List<Long> tagIds) {
-        for (Long tagId : tagIds) {
-            // 해당 태그를 사용하는 다른 게시글이 있는지 확인
-            long postCount = postTagRepository.countByTagId(tagId);
-            if (postCount == 0) {
-                tagRepository.deleteById(tagId);
-                log.debug("Deleted unused tag with id: {}", tagId);
+    // (createdAt, id) 키셋 페이지네이션. offset 스캔과 카운트 쿼리 없이 size + 1건만 조회해 다음 페이지 여부 판단
+    @Transactional(readOnly = true)
+    public ResponseCursorPostsDTO getRecentPostsByCursor(String cursor, int size, List<String> tags, TagMatch tagMatch) {
+        KeysetCursor after = decodeCursor(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        List<Long> postIds;
+        if (hasTags(tags) && tagPostIndex.isReady()) {
+            long[] matched = tagPostIndex.findPostIds(tags, tagMatch);
+            postIds = newestFirst(matched, after != null ? after.getId() : Long.MAX_VALUE, 0, pageSize + 1);
+        } else {
+            JPAQuery<Long> idQuery = postIdQuery(tags, tagMatch);
+
+            if (after != null) {
+                idQuery.where(posts.createdAt.lt(after.getCreatedAt())
+                        .or(posts.createdAt.eq(after.getCreatedAt()).and(posts.id.lt(after.getId()))));
             }
+
+            postIds = idQuery
+                    .orderBy(posts.createdAt.desc(), posts.id.desc())
+                    .limit(pageSize + 1L)
+                    .fetch();
+        }
+
+        boolean hasNext = postIds.size() > pageSize;
+        List<PostSummaryDTO> content = postSummaryLoader.load(hasNext ? postIds.subList(0, pageSize) : postIds);
+
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            PostSummaryDTO last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
         }
+
+        return new ResponseCursorPostsDTO(content, nextCursor, hasNext);
     }
 
     @Transactional(readOnly = true)
-    public Page<PostSummaryDTO> getRecentPosts(int page, int size, List<String> tags) {
-        QTags tag = QTags.tags;
+    public TagIndexStatsDTO rebuildTagIndex() {
+        return tagPostIndex.rebuild();
+    }
 
-        // DTO로 직접 조회
-        JPAQuery<PostSummaryDTO> query = queryFactory
-                .select(constructor(PostSummaryDTO.class,
-                        posts.id,
-                        posts.title,
-                        users.username,
-                        posts.createdAt,
-                        Expressions.stringTemplate(
-                                "SUBSTRING({0}, 1, 300)",  // 300자만 가져오고
-                                posts.content
-                        ),
-                        Expressions.stringTemplate(
-                                "GROUP_CONCAT({0})",
-                                tag.name
-                        ),
-                        posts.likes.size()
-                ))
-                .from(posts)
-                .leftJoin(posts.author, users)
-                .leftJoin(posts.postTags, postTags)
-                .leftJoin(postTags.tag, tag);
-
-        // 태그 필터링
-        if (tags != null && !tags.isEmpty()) {
-            query.where(posts.id.in(
-                    JPAExpressions
-                            .select(postTags.post.id)
-                            .from(postTags)
-                            .join(postTags.tag, tag)
-                            .where(tag.name.in(tags))
-            ));
+    // 기기 ID가 비어 있으면 해시 단계의 IllegalArgumentException(500) 대신 400으로 응답
+    private static void requireDeviceId(String deviceId) {
+        if (deviceId == null || deviceId.isBlank()) {
+            throw new CustomPostExceptions.InvalidDeviceIdException();
         }
+    }
 
-        // 그룹화 필요 (GROUP_CONCAT 때문에)
-        query.groupBy(
-                posts.id,
-                posts.title,
-                users.username,
-                posts.createdAt,
-                posts.content,
-                posts.likes.size()
-        );
+    private KeysetCursor decodeCursor(String cursor) {
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new CustomPostExceptions.InvalidCursorException(cursor);
+        }
+    }
 
-        // 정렬
-        query.orderBy(posts.createdAt.desc());
+    private boolean hasTags(List<String> tags) {
+        return tags != null && !tags.isEmpty();
+    }
 
-        // 카운트 쿼리 최적화
-        JPAQuery<Long> countQuery = queryFactory
-                .select(posts.countDistinct())
-                .from(posts)
-                .leftJoin(posts.postTags, postTags)
-                .leftJoin(postTags.tag, tag);
-
-        if (tags != null && !tags.isEmpty()) {
-            countQuery.where(posts.id.in(
-                    JPAExpressions
-                            .select(postTags.post.id)
-                            .from(postTags)
-                            .join(postTags.tag, tag)
-                            .where(tag.name.in(tags))
-            ));
+    // 오름차순 ID 배열에서 beforeId 미만인 ID를 최신순(ID 내림차순)으로 skip 후 limit개 반환
+    private List<Long> newestFirst(long[] ascendingIds, long beforeId, int skip, int limit) {
+        int position = Arrays.binarySearch(ascendingIds, beforeId);
+        int end = position >= 0 ? position : -position - 1;
+
+        List<Long> result = new ArrayList<>(Math.min(limit, Math.max(end - skip, 0)));
+        for (int i = end - 1 - skip; i >= 0 && result.size() < limit; i--) {
+            result.add(ascendingIds[i]);
         }
+        return result;
+    }
 
-        Pageable pageable = PageRequest.of(page, size);
+    // 목록 조회 1단계: 태그 필터만 적용한 게시글 ID 쿼리 (정렬/페이징은 호출부에서 지정)
+    private JPAQuery<Long> postIdQuery(List<String> tags, TagMatch tagMatch) {
+        JPAQuery<Long> query = queryFactory
+                .select(posts.id)
+                .from(posts);
 
-        return PageableExecutionUtils.getPage(
-                query
-                        .offset(pageable.getOffset())
-                        .limit(pageable.getPageSize())
-                        .fetch(),
-                pageable,
-                countQuery::fetchOne
-        );
+        // 태그 필터링 (색인이 아직 로드되지 않은 경우)
+        if (hasTags(tags)) {
+            query.where(postIdsTaggedWith(tags, tagMatch));
+        }
+
+        return query;
     }
 
-    @Transactional
+    private BooleanExpression postIdsTaggedWith(List<String> tags, TagMatch tagMatch) {
+        QTags tag = QTags.tags;
+        JPQLQuery<Long> taggedPostIds = JPAExpressions
+                .select(postTags.post.id)
+                .from(postTags)
+                .join(postTags.tag, tag)
+                .where(tag.name.in(tags));
+
+        // ALL: 요청한 태그를 모두 가진 게시글만
+        if (tagMatch == TagMatch.ALL) {
+            taggedPostIds.groupBy(postTags.post.id)
+                    .having(tag.name.countDistinct().eq((long) new HashSet<>(tags).size()));
+        }
+        return posts.id.in(taggedPostIds);
+    }
+
+    @Transactional(readOnly = true)
     public ResponsePageDetailDTO getPost(Long postId, String ipAddress, String userAgent) {
         QUsers postAuthor = new QUsers("postAuthor");
         QPostTags postTags = QPostTags.postTags;
@@ -350,9 +358,7 @@ public class PostServiceImpl implements PostService {
                         posts.content,
                         posts.createdAt,
                         posts.updatedAt,
-                        JPAExpressions.select(like.count().intValue())
-                                .from(like)
-                                .where(like.post.id.eq(posts.id)),
+                        posts.likeCount,
                         postAuthor.username,
                         tags.name
                 )
@@ -368,25 +374,18 @@ public class PostServiceImpl implements PostService {
             throw new CustomPostExceptions.PostNotFoundException(postId);
         }
 
-        // 2. 댓글 목록 별도 조회
-        QUsers commentAuthor = new QUsers("commentAuthor");
-        QComments comments = QComments.comments;
-
-        List<CommentListDto> commentsList = queryFactory
-                .select(constructor(CommentListDto.class,
-                        comments.id,
-                        comments.content,
-                        comments.createdAt,
-                        comments.updatedAt,
-                        commentAuthor.username,
-                        comments.isAnonymous,
-                        comments.anonymousName
-                ))
-                .from(comments)
-                .leftJoin(comments.author, commentAuthor)
-                .where(comments.post.id.eq(postId))
-                .orderBy(comments.createdAt.desc())
-                .fetch();
+        // 2. 최신 댓글 첫 페이지만 조회 (size + 1건으로 다음 페이지 여부 판단)
+        List<CommentListDto> commentsList = commentQueryRepository.findPage(postId, null, detailCommentPageSize + 1);
+        boolean hasMoreComments = commentsList.size() > detailCommentPageSize;
+        long commentCount = commentsList.size();
+        String commentNextCursor = null;
+        if (hasMoreComments) {
+            commentsList = commentsList.subList(0, detailCommentPageSize);
+            CommentListDto last = commentsList.get(commentsList.size() - 1);
+            commentNextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+            // 첫 페이지에 다 들어오면 카운트 쿼리 생략
+            commentCount = commentQueryRepository.countByPostId(postId);
+        }
 
         // 3. 결과 조합
         Tuple firstRow = postResults.get(0);
@@ -400,12 +399,12 @@ public class PostServiceImpl implements PostService {
                 firstRow.get(posts.content),
                 firstRow.get(posts.createdAt),
                 firstRow.get(posts.updatedAt),
-                firstRow.get(JPAExpressions.select(like.count().intValue())
-                        .from(like)
-                        .where(like.post.id.eq(posts.id))),
+                firstRow.get(posts.likeCount) + (int) likeCountBuffer.getPendingDelta(postId),
                 String.join(",", tagNames),
                 firstRow.get(postAuthor.username),
-                commentsList
+                commentsList,
+                commentCount,
+                commentNextCursor
         );
 
         // 방문 로그 기록
@@ -414,51 +413,28 @@ public class PostServiceImpl implements PostService {
         return result;
     }
 
+    // 요청 스레드에서는 큐 적재만 하고 실제 INSERT는 VisitLogWriter가 모아서 처리
     public void saveVisitLog(Long postId, String ipAddress, String userAgent) {
-        VisitLog visitLog = VisitLog.builder()
-                .post(Posts.builder().id(postId).build())
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .visitedAt(LocalDateTime.now())
-                .build();
-        visitLogRepository.save(visitLog);
+        visitLogWriter.enqueue(postId, ipAddress, userAgent);
     }
 
     @Transactional
     public LikeResponseDTO likePost(Long postId, String deviceId) {
+        requireDeviceId(deviceId);
+        // 조건부 INSERT/DELETE 한 번으로 상태 변경 (게시글이 없으면 PostNotFoundException)
+        LikeService.ToggleResult result = likeService.toggle(postId, deviceId);
 
-        if (!postRepository.existsById(postId)) {
-            throw new CustomPostExceptions.PostNotFoundException(postId);
-        }
+        String message = result.liked() ? "좋아요가 추가되었습니다." : "좋아요가 취소되었습니다.";
 
-        // 좋아요 존재 여부 확인
-        Optional<Like> existingLike = postRepository.findLikeByPostIdAndDeviceId(postId, deviceId);
-        long likeCheckTime = System.currentTimeMillis();
+        // like_count 증감분은 커밋 후 버퍼에 쌓이므로 이번 요청의 증감분을 직접 더함
+        long totalLikes = likeService.getLikeCount(postId) + result.delta();
 
-        boolean isLiked;
-        String message;
-
-        if (existingLike.isPresent()) {
-            // 좋아요 삭제
-            likeRepository.deleteById(existingLike.get().getId());
-            isLiked = false;
-            message = "좋아요가 취소되었습니다.";
-        } else {
-            // 새 좋아요 추가
-            Like newLike = Like.builder()
-                    .post(Posts.builder().id(postId).build())
-                    .deviceId(deviceId)
-                    .build();
-            likeRepository.save(newLike);
-            isLiked = true;
-            message = "좋아요가 추가되었습니다.";
-        }
-
-        long totalLikes = postRepository.countLikesByPostId(postId);
+        // 좋아요마다 무효화 이벤트를 기록하지 않도록 다른 서버에는 LikeCountBuffer가 반영 시 전파
+        postVersionRegistry.bumpPostLocally(postId);
 
         LikeResponseDTO response = LikeResponseDTO.builder()
                 .postId(postId)
-                .liked(isLiked)
+                .liked(result.liked())
                 .totalLikes(totalLikes)
                 .message(message)
                 .build();
@@ -468,37 +444,81 @@ public class PostServiceImpl implements PostService {
 
     @Transactional(readOnly = true)
     public LikeResponseDTO getLikeStatus(Long postId, String deviceId) {
-        boolean isLiked = likeRepository.existsByPostIdAndDeviceId(postId, deviceId);
+        requireDeviceId(deviceId);
+        LikeService.LikeStatus status = likeService.getLikeStatuses(List.of(postId), deviceId).get(postId);
+        if (status == null) {
+            throw new CustomPostExceptions.PostNotFoundException(postId);
+        }
 
         return LikeResponseDTO.builder()
                 .postId(postId)
-                .liked(isLiked)
-                .totalLikes(likeRepository.countByPostId(postId))
+                .liked(status.liked())
+                .totalLikes(status.likeCount())
                 .build();
     }
 
+    // 게시글 카드마다 상태를 따로 조회하지 않도록 여러 게시글을 쿼리 한 번으로 조회
+    // 요청한 순서대로 반환하고 존재하지 않는 게시글은 제외
+    @Transactional(readOnly = true)
+    public List<LikeResponseDTO> getLikeStatuses(List<Long> postIds, String deviceId) {
+        requireDeviceId(deviceId);
+        List<Long> distinctIds = postIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.size() > maxLikeStatusIds) {
+            throw new CustomPostExceptions.TooManyPostIdsException(distinctIds.size(), maxLikeStatusIds);
+        }
 
-    private void createAndConnectTags(Posts post, List<String> tagNames) {
-        if (tagNames == null || tagNames.isEmpty()) {
-            return;  // 태그가 없으면 메서드를 즉시 종료
+        Map<Long, LikeService.LikeStatus> statuses = likeService.getLikeStatuses(distinctIds, deviceId);
+
+        List<LikeResponseDTO> result = new ArrayList<>(statuses.size());
+        for (Long postId : distinctIds) {
+            LikeService.LikeStatus status = statuses.get(postId);
+            if (status != null) {
+                result.add(LikeResponseDTO.builder()
+                        .postId(postId)
+                        .liked(status.liked())
+                        .totalLikes(status.likeCount())
+                        .build());
+            }
         }
+        return result;
+    }
 
-        for (String tagName : tagNames) {
-            if (tagName != null && !tagName.trim().isEmpty()) {  // 빈 문자열 태그 방지
-                Tags tag = tagRepository.findByName(tagName.trim())
-                        .orElseGet(() -> {
-                            Tags newTag = Tags.builder()
-                                    .name(tagName.trim())
-                                    .build();
-                            return tagRepository.save(newTag);
-                        });
-
-                PostTags postTag = PostTags.builder()
-                        .tag(tag)
-                        .createdAt(LocalDateTime.now())
-                        .build();
-                post.addPostTag(postTag);
+    // 목록 요청에 deviceId가 있으면 같은 쿼리로 각 게시글의 좋아요 여부를 채움
+    @Transactional(readOnly = true)
+    public void fillLikeStatuses(List<PostSummaryDTO> summaries, String deviceId) {
+        if (deviceId == null || deviceId.isBlank() || summaries.isEmpty()) {
+            return;
+        }
+        List<Long> postIds = summaries.stream().map(PostSummaryDTO::getId).toList();
+        Map<Long, LikeService.LikeStatus> statuses = likeService.getLikeStatuses(postIds, deviceId);
+        for (PostSummaryDTO summary : summaries) {
+            LikeService.LikeStatus status = statuses.get(summary.getId());
+            if (status != null) {
+                summary.setLiked(status.liked());
+                summary.setLikeCount((int) status.likeCount());
             }
         }
     }
+
+
+    // 연결된 태그 이름 목록 반환 (공백/중복 제거)
+    private List<String> createAndConnectTags(Posts post, List<String> tagNames) {
+        if (tagNames == null || tagNames.isEmpty()) {
+            return new ArrayList<>();  // 태그가 없으면 메서드를 즉시 종료
+        }
+
+        // 모든 태그를 한 번에 조회/생성한 뒤 ID 참조로 연결 (태그 엔티티를 다시 읽지 않음)
+        Map<String, Long> tagIds = tagResolver.resolve(tagNames);
+        for (Long tagId : tagIds.values()) {
+            PostTags postTag = PostTags.builder()
+                    .tag(tagRepository.getReferenceById(tagId))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            post.addPostTag(postTag);
+        }
+        return new ArrayList<>(tagIds.keySet());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package in.myblog.post.service;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import in.myblog.like.service.LikeCountBuffer;
+import in.myblog.post.domain.QTags;
+import in.myblog.post.dto.PostSummaryDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+import static in.myblog.post.domain.QPostTags.postTags;
+import static in.myblog.post.domain.QPosts.posts;
+import static in.myblog.user.domain.QUsers.users;
+
+// 게시글 ID 목록을 받아 목록용 요약 정보를 채우는 로더
+// 본문/태그 조인 + GROUP BY 대신 ID 기준 IN 쿼리 두 번(게시글, 태그)으로 조회 후 메모리에서 조합
+// 본문(content)은 읽지 않고 작성 시 저장해 둔 미리보기만 조회
+@RequiredArgsConstructor
+@Component
+public class PostSummaryLoader {
+
+    private final JPAQueryFactory queryFactory;
+    private final LikeCountBuffer likeCountBuffer;
+
+    // 전달된 ID 순서를 유지한 채 반환 (삭제되어 조회되지 않은 ID는 제외)
+    public List<PostSummaryDTO> load(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Tuple> postRows = queryFactory
+                .select(posts.id,
+                        posts.title,
+                        users.username,
+                        posts.createdAt,
+                        posts.contentPreview,
+                        posts.likeCount)
+                .from(posts)
+                .leftJoin(posts.author, users)
+                .where(posts.id.in(postIds))
+                .fetch();
+
+        Map<Long, List<String>> tagsByPostId = loadTagNames(postIds);
+
+        Map<Long, PostSummaryDTO> summaries = new HashMap<>();
+        for (Tuple row : postRows) {
+            Long postId = row.get(posts.id);
+            summaries.put(postId, new PostSummaryDTO(
+                    postId,
+                    row.get(posts.title),
+                    row.get(users.username),
+                    row.get(posts.createdAt),
+                    row.get(posts.contentPreview),
+                    tagsByPostId.getOrDefault(postId, new ArrayList<>()),
+                    // 아직 DB에 반영되지 않은 좋아요 증감분 포함
+                    row.get(posts.likeCount) + (int) likeCountBuffer.getPendingDelta(postId)
+            ));
+        }
+
+        List<PostSummaryDTO> result = new ArrayList<>(summaries.size());
+        for (Long postId : postIds) {
+            PostSummaryDTO summary = summaries.get(postId);
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    private Map<Long, List<String>> loadTagNames(List<Long> postIds) {
+        QTags tag = QTags.tags;
+
+        List<Tuple> tagRows = queryFactory
+                .select(postTags.post.id, tag.name)
+                .from(postTags)
+                .join(postTags.tag, tag)
+                .where(postTags.post.id.in(postIds))
+                .orderBy(postTags.id.asc())
+                .fetch();
+
+        Map<Long, List<String>> tagsByPostId = new HashMap<>();
+        for (Tuple row : tagRows) {
+            tagsByPostId.computeIfAbsent(row.get(postTags.post.id), id -> new ArrayList<>())
+                    .add(row.get(tag.name));
+        }
+        return tagsByPostId;
+    }
+}
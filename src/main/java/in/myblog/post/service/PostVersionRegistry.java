@@ -0,0 +1,127 @@
+package in.myblog.post.service;
+
+import in.myblog.cache.CacheInvalidationBus;
+import in.myblog.cache.CacheInvalidationHandler;
+import in.myblog.config.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 조건부 GET(ETag)용 콘텐츠 버전 관리
+// 게시글 상세: 게시글별 버전(수정/댓글/좋아요 시 증가) + updatedAt, 목록: 게시글 쓰기 시 증가하는 전역 버전
+// If-None-Match 비교를 DB 조회 없이 처리하기 위해 마지막으로 응답한 상세 ETag를 메모리에 보관
+// 버전 증가는 CacheInvalidationBus로 다른 서버에도 전파 (키: "post:{id}", "list", 전체는 null)
+@RequiredArgsConstructor
+@Component
+public class PostVersionRegistry implements CacheInvalidationHandler {
+
+    public static final String CACHE_NAME = "postVersion";
+    private static final String POST_KEY_PREFIX = "post:";
+    private static final String LIST_KEY = "list";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // 재기동 후 이전 프로세스가 발급한 ETag와 겹치지 않도록 기동 시각을 접두어로 사용
+    private final String instancePrefix = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong listVersion = new AtomicLong();
+    // 작성자 이름 변경처럼 모든 게시글/목록 응답에 영향을 주는 변경 시 증가
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<Long, PostVersion> postVersions = new ConcurrentHashMap<>();
+
+    public long getPostVersion(Long postId) {
+        PostVersion current = postVersions.get(postId);
+        return current != null ? current.version : 0L;
+    }
+
+    // 현재 버전에 대해 응답한 적이 있는 ETag, 없으면 null
+    public String getKnownPostETag(Long postId) {
+        PostVersion current = postVersions.get(postId);
+        return current != null ? current.eTag : null;
+    }
+
+    // 조회 전에 읽어둔 버전이 그대로인 경우에만 ETag를 기억 (조회 도중 쓰기가 커밋되었다면 다음 요청에서 다시 조회)
+    public String rememberPostETag(Long postId, long observedVersion, LocalDateTime updatedAt) {
+        long updatedAtMillis = updatedAt != null ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        String eTag = "\"p" + instancePrefix + "-" + generation.get() + "-" + observedVersion + "-" + updatedAtMillis + "\"";
+
+        postVersions.compute(postId, (id, current) -> {
+            long currentVersion = current != null ? current.version : 0L;
+            if (currentVersion != observedVersion) {
+                return current;
+            }
+            return new PostVersion(currentVersion, eTag);
+        });
+        return eTag;
+    }
+
+    public String getListETag() {
+        return "\"l" + instancePrefix + "-" + generation.get() + "-" + listVersion.get() + "\"";
+    }
+
+    // 게시글 상세 응답이 바뀌는 쓰기(수정, 삭제, 댓글, 좋아요) 커밋 후 호출
+    public void bumpPost(Long postId) {
+        cacheInvalidationBus.publish(CACHE_NAME, POST_KEY_PREFIX + postId);
+        AfterCommit.run(() -> incrementPost(postId));
+    }
+
+    // 목록 응답이 바뀌는 쓰기(작성, 수정, 삭제, 좋아요) 커밋 후 호출
+    public void bumpList() {
+        cacheInvalidationBus.publish(CACHE_NAME, LIST_KEY);
+        AfterCommit.run(listVersion::incrementAndGet);
+    }
+
+    // 이 서버의 버전만 증가 (좋아요처럼 다른 서버에는 LikeCountBuffer 반영 시 게시글별로 모아서 전파하는 쓰기)
+    public void bumpPostLocally(Long postId) {
+        AfterCommit.run(() -> {
+            incrementPost(postId);
+            listVersion.incrementAndGet();
+        });
+    }
+
+    public void bumpAll() {
+        cacheInvalidationBus.publish(CACHE_NAME, null);
+        AfterCommit.run(this::incrementAll);
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    // 다른 서버의 쓰기 반영 (다시 발행하지 않음)
+    @Override
+    public void invalidate(String key) {
+        if (key == null) {
+            incrementAll();
+        } else if (LIST_KEY.equals(key)) {
+            listVersion.incrementAndGet();
+        } else if (key.startsWith(POST_KEY_PREFIX)) {
+            incrementPost(Long.valueOf(key.substring(POST_KEY_PREFIX.length())));
+        }
+    }
+
+    private void incrementPost(Long postId) {
+        postVersions.compute(postId, (id, current) ->
+                new PostVersion((current != null ? current.version : 0L) + 1, null));
+    }
+
+    private void incrementAll() {
+        generation.incrementAndGet();
+        postVersions.replaceAll((id, current) -> new PostVersion(current.version + 1, null));
+    }
+
+    private static final class PostVersion {
+        private final long version;
+        private final String eTag;
+
+        private PostVersion(long version, String eTag) {
+            this.version = version;
+            this.eTag = eTag;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package in.myblog.post.service;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import in.myblog.cache.CacheInvalidationBus;
+import in.myblog.cache.CacheInvalidationHandler;
+import in.myblog.config.AfterCommit;
+import in.myblog.post.domain.QTags;
+import in.myblog.post.dto.TagIndexStatsDTO;
+import in.myblog.post.dto.TagMatch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static in.myblog.post.domain.QPostTags.postTags;
+
+// 태그 이름 -> 게시글 ID(오름차순 long 배열) 역색인
+// 다중 태그 필터(AND/OR)를 DB 서브쿼리 대신 정렬된 배열의 교집합/합집합으로 처리
+// 배열은 불변으로 두고 변경 시 새 배열로 교체하므로 조회는 락 없이 수행
+// 게시글 ID는 작성 시점 순서로 증가하므로 ID 내림차순을 최신순으로 사용
+// 다른 서버에서 바뀐 게시글은 CacheInvalidationBus 이벤트(키: 게시글 ID)를 받아 DB에서 다시 읽어 반영
+// 태그 이름은 MySQL 콜레이션처럼 대소문자/앞뒤 공백을 구분하지 않도록 정규화한 값을 키로 사용
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TagPostIndex implements CacheInvalidationHandler {
+
+    public static final String CACHE_NAME = "tagIndex";
+
+    private static final long[] EMPTY = new long[0];
+
+    private final JPAQueryFactory queryFactory;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final Object writeLock = new Object();
+    private volatile Map<String, long[]> postIdsByTag = new ConcurrentHashMap<>();
+    // 게시글 수정/삭제 시 기존 태그에서 ID를 빼기 위한 역방향 맵 (writeLock 안에서만 접근)
+    private Map<Long, Set<String>> tagsByPostId = new HashMap<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 태그 조건에 맞는 게시글 ID를 오름차순으로 반환
+    public long[] findPostIds(Collection<String> tagNames, TagMatch match) {
+        Map<String, long[]> index = postIdsByTag;
+        List<long[]> postings = new ArrayList<>(tagNames.size());
+        for (String tagName : normalizeAll(tagNames)) {
+            postings.add(index.getOrDefault(tagName, EMPTY));
+        }
+        if (postings.isEmpty()) {
+            return EMPTY;
+        }
+        return match == TagMatch.ALL ? intersect(postings) : union(postings);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    // DB의 post_tags 전체로 색인을 다시 만듦 (기동 시, 관리자 요청 시)
+    public TagIndexStatsDTO rebuild() {
+        QTags tag = QTags.tags;
+
+        synchronized (writeLock) {
+            List<Tuple> rows = queryFactory
+                    .select(postTags.post.id, tag.name)
+                    .from(postTags)
+                    .join(postTags.tag, tag)
+                    .fetch();
+
+            Map<Long, Set<String>> rebuiltTagsByPostId = new HashMap<>();
+            Map<String, List<Long>> idsByTag = new HashMap<>();
+            for (Tuple row : rows) {
+                Long postId = row.get(postTags.post.id);
+                String tagName = normalize(row.get(tag.name));
+                if (rebuiltTagsByPostId.computeIfAbsent(postId, id -> new HashSet<>()).add(tagName)) {
+                    idsByTag.computeIfAbsent(tagName, name -> new ArrayList<>()).add(postId);
+                }
+            }
+
+            Map<String, long[]> rebuilt = new ConcurrentHashMap<>();
+            idsByTag.forEach((tagName, ids) -> rebuilt.put(tagName,
+                    ids.stream().mapToLong(Long::longValue).sorted().toArray()));
+
+            tagsByPostId = rebuiltTagsByPostId;
+            postIdsByTag = rebuilt;
+            ready = true;
+        }
+
+        TagIndexStatsDTO stats = getStats();
+        log.info("Tag index rebuilt: {} tags, {} postings, ~{} bytes",
+                stats.getTagCount(), stats.getPostingCount(), stats.getMemoryBytes());
+        return stats;
+    }
+
+    // 게시글 작성/수정 커밋 후 해당 게시글의 태그 목록을 반영
+    public void indexPostAfterCommit(Long postId, Collection<String> tagNames) {
+        Set<String> newTags = normalizeAll(tagNames);
+        cacheInvalidationBus.publish(CACHE_NAME, postId.toString());
+        AfterCommit.run(() -> index(postId, newTags));
+    }
+
+    public void removePostAfterCommit(Long postId) {
+        cacheInvalidationBus.publish(CACHE_NAME, postId.toString());
+        AfterCommit.run(() -> index(postId, Collections.emptySet()));
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    // 다른 서버에서 작성/수정/삭제된 게시글의 현재 태그를 DB에서 읽어 반영 (삭제된 게시글은 빈 목록)
+    @Override
+    public void invalidate(String key) {
+        if (key == null) {
+            rebuild();
+            return;
+        }
+        Long postId = Long.valueOf(key);
+        QTags tag = QTags.tags;
+        List<String> tagNames = queryFactory
+                .select(tag.name)
+                .from(postTags)
+                .join(postTags.tag, tag)
+                .where(postTags.post.id.eq(postId))
+                .fetch();
+        index(postId, normalizeAll(tagNames));
+    }
+
+    public TagIndexStatsDTO getStats() {
+        Map<String, long[]> index = postIdsByTag;
+        long postings = 0L;
+        // 대략적인 추정치: 배열(헤더 16 + 8 * n) + 태그 문자열(헤더 40 + 2 * 길이) + 맵 엔트리(32)
+        long bytes = 0L;
+        for (Map.Entry<String, long[]> entry : index.entrySet()) {
+            postings += entry.getValue().length;
+            bytes += 16L + 8L * entry.getValue().length;
+            bytes += 40L + 2L * entry.getKey().length();
+            bytes += 32L;
+        }
+        int postCount;
+        synchronized (writeLock) {
+            postCount = tagsByPostId.size();
+            // 역방향 맵: 엔트리(32) + Long(16) + HashSet(약 48 + 원소당 32)
+            for (Set<String> tags : tagsByPostId.values()) {
+                bytes += 96L + 32L * tags.size();
+            }
+        }
+        return new TagIndexStatsDTO(index.size(), postCount, postings, bytes);
+    }
+
+    private void index(Long postId, Set<String> newTags) {
+        synchronized (writeLock) {
+            Set<String> oldTags = tagsByPostId.getOrDefault(postId, Collections.emptySet());
+            Map<String, long[]> index = postIdsByTag;
+
+            for (String tagName : oldTags) {
+                if (!newTags.contains(tagName)) {
+                    long[] updated = remove(index.getOrDefault(tagName, EMPTY), postId);
+                    if (updated.length == 0) {
+                        index.remove(tagName);
+                    } else {
+                        index.put(tagName, updated);
+                    }
+                }
+            }
+            for (String tagName : newTags) {
+                if (!oldTags.contains(tagName)) {
+                    index.put(tagName, insert(index.getOrDefault(tagName, EMPTY), postId));
+                }
+            }
+
+            if (newTags.isEmpty()) {
+                tagsByPostId.remove(postId);
+            } else {
+                tagsByPostId.put(postId, new HashSet<>(newTags));
+            }
+        }
+    }
+
+    private static String normalize(String tagName) {
+        return tagName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalizeAll(Collection<String> tagNames) {
+        Set<String> normalized = new LinkedHashSet<>(tagNames.size());
+        for (String tagName : tagNames) {
+            if (tagName != null) {
+                normalized.add(normalize(tagName));
+            }
+        }
+        return normalized;
+    }
+
+    private static long[] insert(long[] sorted, long value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position >= 0) {
+            return sorted;
+        }
+        int insertAt = -position - 1;
+        long[] result = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, insertAt);
+        result[insertAt] = value;
+        System.arraycopy(sorted, insertAt, result, insertAt + 1, sorted.length - insertAt);
+        return result;
+    }
+
+    private static long[] remove(long[] sorted, long value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position < 0) {
+            return sorted;
+        }
+        long[] result = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, position);
+        System.arraycopy(sorted, position + 1, result, position, sorted.length - position - 1);
+        return result;
+    }
+
+    // 가장 짧은 배열부터 순서대로 교집합
+    private static long[] intersect(List<long[]> postings) {
+        postings.sort(Comparator.comparingInt(array -> array.length));
+        long[] result = postings.get(0);
+        for (int i = 1; i < postings.size() && result.length > 0; i++) {
+            long[] other = postings.get(i);
+            long[] merged = new long[Math.min(result.length, other.length)];
+            int a = 0, b = 0, size = 0;
+            while (a < result.length && b < other.length) {
+                if (result[a] == other[b]) {
+                    merged[size++] = result[a];
+                    a++;
+                    b++;
+                } else if (result[a] < other[b]) {
+                    a++;
+                } else {
+                    b++;
+                }
+            }
+            result = Arrays.copyOf(merged, size);
+        }
+        return result;
+    }
+
+    private static long[] union(List<long[]> postings) {
+        long[] result = EMPTY;
+        for (long[] other : postings) {
+            long[] merged = new long[result.length + other.length];
+            int a = 0, b = 0, size = 0;
+            while (a < result.length || b < other.length) {
+                long next;
+                if (b >= other.length || (a < result.length && result[a] < other[b])) {
+                    next = result[a++];
+                } else if (a >= result.length || other[b] < result[a]) {
+                    next = other[b++];
+                } else {
+                    next = result[a];
+                    a++;
+                    b++;
+                }
+                merged[size++] = next;
+            }
+            result = Arrays.copyOf(merged, size);
+        }
+        return result;
+    }
+}
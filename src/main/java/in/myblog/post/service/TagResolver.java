@@ -0,0 +1,186 @@
+package in.myblog.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import in.myblog.cache.CacheConfig;
+import in.myblog.cache.CacheInvalidationHandler;
+import in.myblog.config.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 태그 이름 목록을 ID로 변환하고 없는 태그는 생성
+// 태그마다 findByName + save 하지 않고 IN 조회 1회 + multi-row INSERT IGNORE 1회 + 재조회 1회로 처리
+// 자주 쓰이는 태그는 이름 -> ID 캐시로 쿼리 없이 처리
+// OrphanTagCollector가 삭제 대기로 표시한 태그를 DB에서 찾으면 표시를 지워 삭제되지 않도록 함
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TagResolver implements CacheInvalidationHandler {
+
+    public static final String CACHE_NAME = "tagResolver";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CaffeineCacheManager cacheManager;
+
+    @Value("${tag.resolver.cache-size:2048}")
+    private int cacheSize;
+
+    private Cache<String, ResolvedTag> tagsByName;
+
+    @PostConstruct
+    void init() {
+        tagsByName = CacheConfig.register(cacheManager, CACHE_NAME, Caffeine.newBuilder()
+                .maximumSize(Math.max(cacheSize, 0))
+                .recordStats()
+                .<String, ResolvedTag>build());
+    }
+
+    // 앞뒤 공백 제거 후 빈 이름과 중복은 제외하고, 전달된 순서대로 저장된 태그 이름 -> ID 반환
+    // (콜레이션에 따라 "Java"를 요청해도 이미 저장된 "java"가 반환될 수 있음)
+    // 트랜잭션 안에서 호출해야 생성한 태그가 게시글과 함께 커밋/롤백됨
+    public Map<String, Long> resolve(Collection<String> tagNames) {
+        Map<String, ResolvedTag> resolvedByRequest = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        for (String tagName : tagNames) {
+            if (tagName == null || tagName.trim().isEmpty()) {
+                continue;
+            }
+            String name = tagName.trim();
+            if (resolvedByRequest.containsKey(name)) {
+                continue;
+            }
+            ResolvedTag cached = cacheSize > 0 ? tagsByName.getIfPresent(name) : null;
+            resolvedByRequest.put(name, cached);
+            if (cached == null) {
+                missing.add(name);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            resolveMissing(missing, resolvedByRequest);
+        }
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (ResolvedTag tag : resolvedByRequest.values()) {
+            result.putIfAbsent(tag.name(), tag.id());
+        }
+        return result;
+    }
+
+    private void resolveMissing(List<String> missing, Map<String, ResolvedTag> resolvedByRequest) {
+        Set<Long> orphanedIds = new HashSet<>();
+        TagRows found = selectTags(missing, false, orphanedIds);
+        List<String> absent = missing.stream()
+                .filter(name -> found.get(name) == null)
+                .toList();
+
+        if (!absent.isEmpty()) {
+            insertIgnore(absent);
+            // 다른 편집자가 같은 태그를 동시에 생성한 경우 INSERT IGNORE는 건너뛰므로
+            // 잠금 읽기로 재조회해 스냅샷 이후 커밋된 행까지 확인
+            found.putAll(selectTags(absent, true, orphanedIds));
+        }
+
+        Map<String, ResolvedTag> newlyResolved = new HashMap<>();
+        for (String name : missing) {
+            ResolvedTag tag = found.get(name);
+            if (tag == null) {
+                throw new IllegalStateException("Failed to resolve tag: " + name);
+            }
+            resolvedByRequest.put(name, tag);
+            newlyResolved.put(name, tag);
+        }
+
+        if (!orphanedIds.isEmpty()) {
+            unmarkOrphaned(orphanedIds);
+        }
+
+        // 이번 트랜잭션에서 생성한 태그가 롤백될 수 있으므로 커밋 이후에 캐시
+        if (cacheSize > 0) {
+            AfterCommit.run(() -> tagsByName.putAll(newlyResolved));
+        }
+    }
+
+    // 태그 삭제 후 호출 (캐시에 남은 ID로 post_tags를 연결하지 않도록)
+    public void invalidateAll() {
+        tagsByName.invalidateAll();
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    // 다른 서버에서 태그를 삭제한 경우
+    @Override
+    public void invalidate(String key) {
+        invalidateAll();
+    }
+
+    // 삭제 대기로 표시된 태그의 ID는 orphanedIds에 추가
+    private TagRows selectTags(List<String> names, boolean lockingRead, Set<Long> orphanedIds) {
+        String sql = "SELECT id, name, orphaned_at FROM tags WHERE name IN (" + placeholders(names.size()) + ")"
+                + (lockingRead ? " LOCK IN SHARE MODE" : "");
+
+        TagRows rows = new TagRows();
+        jdbcTemplate.query(sql, rs -> {
+            rows.put(new ResolvedTag(rs.getLong("id"), rs.getString("name")));
+            if (rs.getTimestamp("orphaned_at") != null) {
+                orphanedIds.add(rs.getLong("id"));
+            }
+        }, names.toArray());
+        return rows;
+    }
+
+    // 행 잠금이 걸리므로 동시에 실행된 삭제는 이 트랜잭션이 끝날 때까지 기다린 뒤 조건이 맞지 않아 건너뜀
+    // (롤백되면 표시가 남아 다음 주기에 다시 삭제 대상이 됨)
+    private void unmarkOrphaned(Set<Long> ids) {
+        jdbcTemplate.update("UPDATE tags SET orphaned_at = NULL WHERE id IN (" + placeholders(ids.size()) + ")",
+                ids.toArray());
+    }
+
+    private void insertIgnore(List<String> names) {
+        StringBuilder sql = new StringBuilder("INSERT IGNORE INTO tags (name) VALUES ");
+        for (int i = 0; i < names.size(); i++) {
+            sql.append(i > 0 ? ", (?)" : "(?)");
+        }
+        int inserted = jdbcTemplate.update(sql.toString(), names.toArray());
+        log.debug("Created {} of {} new tags", inserted, names.size());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private record ResolvedTag(Long id, String name) {
+    }
+
+    // DB 콜레이션이 대소문자를 구분하지 않는 경우 "Java"로 조회해도 "java" 행이 반환되므로
+    // 정확히 일치하는 이름을 먼저 찾고, 없으면 대소문자 무시로 찾음
+    private static class TagRows {
+        private final Map<String, ResolvedTag> exact = new HashMap<>();
+        private final Map<String, ResolvedTag> ignoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        void put(ResolvedTag tag) {
+            exact.put(tag.name(), tag);
+            ignoreCase.putIfAbsent(tag.name(), tag);
+        }
+
+        void putAll(TagRows other) {
+            other.exact.values().forEach(this::put);
+        }
+
+        ResolvedTag get(String name) {
+            ResolvedTag tag = exact.get(name);
+            return tag != null ? tag : ignoreCase.get(name);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package in.myblog.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// total_visit_count의 date 유니크 키를 보장하는 기동 시 마이그레이션
+// 유니크 키가 없던 시기에 생긴 같은 날짜의 행을 가장 오래된 행 하나로 합친 뒤(count 합산) 나머지를 삭제하고 유니크 키 추가
+// (중복 행 때문에 스키마 자동 갱신에서 키 생성이 실패했다면, addCount의 ON DUPLICATE KEY UPDATE가 매번 새 행을 추가하게 됨)
+// VisitCountBuffer의 반영이 시작되기 전, 웹 서버가 요청을 받기 전에 실행
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TotalVisitCountMigration implements SmartInitializingSingleton {
+
+    private static final String UNIQUE_KEY_NAME = "uk_total_visit_count_date";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> migrate());
+    }
+
+    void migrate() {
+        Integer uniqueKeys = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'total_visit_count' AND index_name = ?",
+                Integer.class, UNIQUE_KEY_NAME);
+        if (uniqueKeys != null && uniqueKeys > 0) {
+            return;
+        }
+
+        int merged = jdbcTemplate.update(
+                "UPDATE total_visit_count t JOIN (" +
+                        "SELECT MIN(id) AS keep_id, SUM(count) AS total FROM total_visit_count " +
+                        "GROUP BY date HAVING COUNT(*) > 1) d ON t.id = d.keep_id " +
+                        "SET t.count = d.total");
+
+        int removed = jdbcTemplate.update(
+                "DELETE t1 FROM total_visit_count t1 JOIN total_visit_count t2 " +
+                        "ON t1.date = t2.date AND t1.id > t2.id");
+
+        jdbcTemplate.execute("ALTER TABLE total_visit_count ADD CONSTRAINT " + UNIQUE_KEY_NAME + " UNIQUE (date)");
+
+        log.info("Migrated total_visit_count: {} dates merged, {} duplicate rows removed, unique key added",
+                merged, removed);
+    }
+}
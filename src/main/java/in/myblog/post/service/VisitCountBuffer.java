@@ -0,0 +1,87 @@
+package in.myblog.post.service;
+
+import in.myblog.post.repository.TotalVisitCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 일자별 방문 수를 메모리(LongAdder)에 누적하고 주기적으로 증가분만 DB에 반영
+// total_visit_count 행에 대한 요청별 조회/갱신 경합을 없애기 위함
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class VisitCountBuffer {
+
+    private final TotalVisitCountRepository totalVisitCountRepository;
+
+    private final ConcurrentHashMap<LocalDate, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment() {
+        LocalDate today = LocalDate.now();
+        LongAdder counter = pending.get(today);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(today, date -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    // 아직 DB에 반영되지 않은 해당 일자의 방문 수
+    public long getPendingCount(LocalDate date) {
+        LongAdder counter = pending.get(date);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    public long getTotalPendingCount() {
+        long total = 0L;
+        for (LongAdder counter : pending.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${visit-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        for (Map.Entry<LocalDate, LongAdder> entry : pending.entrySet()) {
+            LocalDate date = entry.getKey();
+            LongAdder counter = entry.getValue();
+
+            // sumThenReset 대신 읽은 만큼만 차감해서 flush 도중 들어온 증가분을 잃지 않음
+            long delta = counter.sum();
+            if (delta == 0) {
+                if (date.isBefore(yesterday)) {
+                    pending.remove(date, counter);
+                }
+                continue;
+            }
+
+            try {
+                totalVisitCountRepository.addCount(date, delta);
+                counter.add(-delta);
+            } catch (DataAccessException e) {
+                // 반영 실패 시 증가분은 남겨두고 다음 주기에 재시도
+                log.warn("Failed to flush {} visits for {}: {}", delta, date, e.getMessage());
+            }
+        }
+    }
+
+    // flush와 겹치지 않게 실행 (DB 집계값과 미반영 방문 수를 함께 읽을 때 중복/누락 방지)
+    public synchronized <T> T callExclusively(Supplier<T> action) {
+        return action.get();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,214 @@
+package in.myblog.post.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 방문 로그를 요청 스레드에서 바로 INSERT 하지 않고 큐에 적재한 뒤 백그라운드 스레드가 multi-row INSERT로 모아서 기록
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class VisitLogWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO visit_log (post_id, ip_address, visited_at, user_agent) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    public enum OverflowPolicy {
+        DROP,   // 큐가 가득 차면 즉시 버림
+        BLOCK   // block-timeout-ms 동안 자리가 나기를 기다린 뒤 그래도 가득 차 있으면 버림
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${visit-log.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${visit-log.flush-size:500}")
+    private int flushSize;
+
+    @Value("${visit-log.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${visit-log.overflow-policy:DROP}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${visit-log.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong unreportedDrops = new AtomicLong();
+
+    private BlockingQueue<VisitEvent> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::drainLoop, "visit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 애플리케이션 종료 시 큐에 남은 로그까지 기록한 뒤 종료
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.join(flushIntervalMs + TimeUnit.SECONDS.toMillis(10));
+        if (worker.isAlive()) {
+            log.warn("Visit log writer did not stop in time, {} events left in queue", queue.size());
+        }
+    }
+
+    public void enqueue(Long postId, String ipAddress, String userAgent) {
+        VisitEvent event = new VisitEvent(postId, truncate(ipAddress), truncate(userAgent), LocalDateTime.now());
+
+        boolean accepted;
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(event, blockTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = queue.offer(event);
+        }
+
+        if (!accepted) {
+            droppedCount.incrementAndGet();
+            unreportedDrops.incrementAndGet();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private void drainLoop() {
+        List<VisitEvent> batch = new ArrayList<>(flushSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                running = false;
+            }
+
+            // flush-size 단위로 나눠 기록 (종료 시 drainTo로 한 번에 많이 모인 경우 포함)
+            for (int from = 0; from < batch.size(); from += flushSize) {
+                write(batch.subList(from, Math.min(from + flushSize, batch.size())));
+            }
+            batch.clear();
+
+            long drops = unreportedDrops.getAndSet(0);
+            if (drops > 0) {
+                log.warn("Visit log queue full, dropped {} events (total dropped: {})", drops, droppedCount.get());
+            }
+        }
+    }
+
+    // flush-size만큼 모이거나 flush-interval-ms가 지날 때까지 큐에서 꺼냄
+    private void collectBatch(List<VisitEvent> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < flushSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            VisitEvent event = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (event == null) {
+                return;
+            }
+            batch.add(event);
+            queue.drainTo(batch, flushSize - batch.size());
+        }
+    }
+
+    private void write(List<VisitEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(buildInsertSql(batch.size()), toArgs(batch));
+            writtenCount.addAndGet(batch.size());
+        } catch (DataAccessException e) {
+            // 삭제된 게시글 등 일부 행 때문에 배치 전체가 실패한 경우 행 단위로 재시도
+            log.warn("Batch insert of {} visit logs failed, retrying row by row: {}", batch.size(), e.getMessage());
+            for (VisitEvent event : batch) {
+                try {
+                    jdbcTemplate.update(buildInsertSql(1), toArgs(List.of(event)));
+                    writtenCount.incrementAndGet();
+                } catch (DataAccessException rowFailure) {
+                    failedCount.incrementAndGet();
+                    log.debug("Failed to write visit log for post {}: {}", event.postId(), rowFailure.getMessage());
+                }
+            }
+        }
+    }
+
+    private String buildInsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+
+    private Object[] toArgs(List<VisitEvent> batch) {
+        Object[] args = new Object[batch.size() * 4];
+        int i = 0;
+        for (VisitEvent event : batch) {
+            args[i++] = event.postId();
+            args[i++] = event.ipAddress();
+            args[i++] = event.visitedAt();
+            args[i++] = event.userAgent();
+        }
+        return args;
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_COLUMN_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_COLUMN_LENGTH);
+    }
+
+    private record VisitEvent(Long postId, String ipAddress, String userAgent, LocalDateTime visitedAt) {
+    }
+}
@@ -1,30 +1,18 @@
 package in.myblog.post.service;
 
-import in.myblog.post.domain.TotalVisitCount;
-import in.myblog.post.repository.TotalVisitCountRepository;
+import in.myblog.sidebar.SidebarSnapshot;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDate;
 
 @Service
 @RequiredArgsConstructor
 public class VisitServiceImpl implements VisitService{
-    private final TotalVisitCountRepository totalVisitCountRepository;
+    private final VisitCountBuffer visitCountBuffer;
+    private final SidebarSnapshot sidebarSnapshot;
 
-    @Transactional
-    @CacheEvict(value = "visitorCounts", allEntries = true)
+    // 요청마다 DB를 갱신하지 않고 메모리 카운터만 증가 (VisitCountBuffer가 주기적으로 반영)
     public void incrementVisitCount() {
-        LocalDate today = LocalDate.now();
-        TotalVisitCount visitCount = totalVisitCountRepository.findByDate(today)
-                .orElseGet(() -> {
-                    TotalVisitCount newCount = new TotalVisitCount(today, 0L);
-                    return totalVisitCountRepository.save(newCount);
-                });
-
-        visitCount.incrementCount();
+        visitCountBuffer.increment();
+        sidebarSnapshot.recordVisit();
     }
 }
@@ -1,7 +1,11 @@
 package in.myblog.secure;
 
 import in.myblog.jwt.JwtUtil;
+import in.myblog.jwt.VerifiedToken;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -25,6 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -36,20 +41,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // 1. Access Token이 있는 경우
             if (accessToken != null) {
+                VerifiedToken verified = null;
                 try {
-                    // Access Token 검증 시도
-                    if (jwtUtil.validateToken(accessToken)) {
-                        authenticateUser(jwtUtil.getUserIdFromToken(accessToken), request);
-                        chain.doFilter(request, response);
-                        return;
-                    }
+                    // Access Token 검증 시도 (서명 검증과 클레임 추출을 한 번의 파싱으로 처리)
+                    verified = verify(accessToken, "access");
                 } catch (ExpiredJwtException e) {
-                    // Access Token이 만료된 경우, Refresh Token으로 재발급 시도
+                    // Access Token이 만료된 경우, 아래에서 Refresh Token으로 재발급 시도
                     log.info("Access token expired. Attempting token refresh...");
-                    handleTokenRefresh(refreshToken, response, request, chain);
+                } catch (JwtException | IllegalArgumentException e) {
+                    log.error("Access token validation failed: {}", e.getMessage());
+                }
+
+                if (verified != null) {
+                    authenticateUser(verified.getUserId(), request);
+                    chain.doFilter(request, response);
                     return;
-                } catch (Exception e) {
-                    log.error("Access token validation failed", e);
                 }
             }
 
@@ -72,20 +78,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletRequest request, FilterChain chain)
             throws IOException, ServletException {
         try {
-            // Refresh Token 유효성 검증
-            if (!jwtUtil.validateToken(refreshToken)) {
+            // Refresh Token 유효성 검증 및 userId 추출
+            VerifiedToken verified;
+            try {
+                verified = verify(refreshToken, "refresh");
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Invalid refresh token: {}", e.getMessage());
                 handleAuthenticationFailure(response);
                 return;
             }
-
-            // Refresh Token에서 userId 추출
-            Long userId = jwtUtil.getUserIdFromToken(refreshToken);
+            Long userId = verified.getUserId();
 
             // 새로운 Access Token 발급
             String newAccessToken = jwtUtil.generateAccessToken(userId);
 
             // Refresh Token 만료 시간이 얼마 남지 않은 경우 새로 발급
-            if (jwtUtil.shouldRefreshToken(refreshToken)) {
+            if (jwtUtil.shouldRefresh(verified)) {
                 String newRefreshToken = jwtUtil.generateRefreshToken(userId);
                 addRefreshTokenToCookie(response, newRefreshToken);
             }
@@ -105,6 +113,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    // 토큰 검증 시간을 jwt.verify 타이머로 기록 (태그: token, outcome=valid/expired/invalid)
+    private VerifiedToken verify(String token, String tokenType) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            VerifiedToken verified = jwtUtil.verify(token);
+            outcome = "valid";
+            return verified;
+        } catch (ExpiredJwtException e) {
+            outcome = "expired";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("jwt.verify")
+                    .tag("token", tokenType)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
     private void authenticateUser(Long userId, HttpServletRequest request) {
         UserDetails userDetails = userDetailsService.loadUserByUserId(userId);
         UsernamePasswordAuthenticationToken authentication =
@@ -1,6 +1,7 @@
 package in.myblog.secure;
 
 import in.myblog.user.repository.UserRepository;
+import in.myblog.user.domain.UserRole;
 import in.myblog.user.domain.Users;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -24,13 +26,16 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .password(user.getPassword()).build();
     }
 
+    // JWT 인증 필터에서 요청마다 호출되므로 캐시를 거치고, 비밀번호 해시 없이 권한만 조회
     public UserDetails loadUserByUserId(Long userId) throws UsernameNotFoundException {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+        return userPrincipalCache.get(userId, () -> {
+            UserRole role = userRepository.findRoleById(userId)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getId().toString())
-                .roles(user.getRole().name())
-                .password(user.getPassword()).build();
+            return org.springframework.security.core.userdetails.User.builder()
+                    .username(userId.toString())
+                    .roles(role.name())
+                    .password("").build();
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package in.myblog.secure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import in.myblog.cache.CacheConfig;
+import in.myblog.cache.CacheInvalidationBus;
+import in.myblog.cache.CacheInvalidationHandler;
+import in.myblog.config.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 인증된 사용자 정보(userId -> 권한) 캐시
+// 토큰이 유효한 요청마다 사용자 조회 쿼리를 실행하지 않도록 TTL 동안 재사용
+// 비밀번호/이름/권한이 바뀌면 UserService에서 커밋 이후 명시적으로 제거 (다른 서버에는 CacheInvalidationBus로 전파)
+@RequiredArgsConstructor
+@Component
+public class UserPrincipalCache implements CacheInvalidationHandler {
+
+    public static final String CACHE_NAME = "userPrincipal";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final CaffeineCacheManager cacheManager;
+
+    @Value("${security.principal-cache.size:1024}")
+    private int maxSize;
+
+    @Value("${security.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 조회 도중 무효화가 일어나면 이전 값을 다시 넣지 않도록 무효화 횟수를 기록
+    private final AtomicLong generation = new AtomicLong();
+    private final Object lock = new Object();
+
+    private Cache<Long, UserDetails> principals;
+
+    @PostConstruct
+    void init() {
+        principals = CacheConfig.register(cacheManager, CACHE_NAME, Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(ttlSeconds, 0)))
+                .recordStats()
+                .<Long, UserDetails>build());
+    }
+
+    public UserDetails get(Long userId, Supplier<UserDetails> loader) {
+        if (maxSize <= 0 || ttlSeconds <= 0) {
+            return loader.get();
+        }
+
+        UserDetails cached = principals.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long observedGeneration = generation.get();
+        UserDetails loaded = loader.get();
+        synchronized (lock) {
+            if (generation.get() == observedGeneration) {
+                principals.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 제거 (커밋 전에 제거하면 다른 요청이 이전 값을 다시 캐시할 수 있음)
+    public void evictAfterCommit(Long userId) {
+        cacheInvalidationBus.publish(CACHE_NAME, userId.toString());
+        AfterCommit.run(() -> evict(userId));
+    }
+
+    public void evict(Long userId) {
+        synchronized (lock) {
+            generation.incrementAndGet();
+            principals.invalidate(userId);
+        }
+    }
+
+    public void evictAll() {
+        synchronized (lock) {
+            generation.incrementAndGet();
+            principals.invalidateAll();
+        }
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(String key) {
+        if (key == null) {
+            evictAll();
+        } else {
+            evict(Long.valueOf(key));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package in.myblog.sidebar;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -8,10 +9,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @RestController
 public class SidebarController {
-    private final SidebarService sidebarService;
-    @GetMapping("/api*/sidebar-data")
-    public ResponseEntity<SidebarDataDTO> getSidebarData() {
-        SidebarDataDTO sidebarData = sidebarService.getSidebarData();
-        return ResponseEntity.ok(sidebarData);
+    private final SidebarSnapshot sidebarSnapshot;
+
+    // 미리 직렬화된 JSON 바이트를 그대로 응답
+    @GetMapping(value = "/api*/sidebar-data", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getSidebarData() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sidebarSnapshot.getJson());
     }
 }
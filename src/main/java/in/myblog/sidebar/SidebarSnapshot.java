@@ -0,0 +1,133 @@
+package in.myblog.sidebar;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import in.myblog.post.service.VisitCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// 사이드바 응답(방문자 수 + 태그 목록)을 메모리에 유지하고 직렬화한 JSON 바이트를 재사용
+// 방문자 수는 방문마다 증가분만 더하고, 값이나 태그 목록이 바뀐 경우에만 다시 직렬화
+// 다른 서버에서 반영된 방문 수는 주기적인 DB 재동기화로 맞춤
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SidebarSnapshot {
+
+    private final SidebarCacheService sidebarCacheService;
+    private final VisitCountBuffer visitCountBuffer;
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder todayCount = new LongAdder();
+    private final LongAdder yesterdayCount = new LongAdder();
+    private volatile LocalDate today;
+    private volatile boolean loaded;
+
+    private volatile Serialized serialized;
+
+    // VisitCountBuffer.increment() 이후 호출
+    // 첫 로드 전 방문은 재동기화 시 미반영 방문 수로 포함되므로 건너뜀
+    public void recordVisit() {
+        if (!loaded) {
+            return;
+        }
+        LocalDate now = LocalDate.now();
+        if (!now.equals(today)) {
+            rollOver(now);
+        }
+        todayCount.increment();
+        total.increment();
+    }
+
+    // 마지막으로 직렬화한 값과 같으면 기존 바이트를 그대로 반환
+    public byte[] getJson() {
+        ensureLoaded();
+        LocalDate now = LocalDate.now();
+        if (!now.equals(today)) {
+            rollOver(now);
+        }
+
+        // "tags" 캐시가 비워지면 새 리스트가 로드되므로 참조 비교로 변경 여부 판단
+        List<String> tags = sidebarCacheService.getTags();
+        long currentTotal = total.sum();
+        long currentToday = todayCount.sum();
+        long currentYesterday = yesterdayCount.sum();
+
+        Serialized last = serialized;
+        if (last != null && last.tags() == tags && last.total() == currentTotal
+                && last.today() == currentToday && last.yesterday() == currentYesterday) {
+            return last.json();
+        }
+
+        byte[] json = serialize(new SidebarDataDTO(
+                new VisitorCountsDTO(currentTotal, currentToday, currentYesterday), tags));
+        serialized = new Serialized(currentTotal, currentToday, currentYesterday, tags, json);
+        return json;
+    }
+
+    // DB 집계값 + 아직 반영되지 않은 방문 수로 다시 맞춤
+    // (flush와 겹치면 같은 방문이 두 번 더해지거나 빠질 수 있으므로 flush와 배타적으로 읽음)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${sidebar.snapshot.resync-interval-ms:300000}",
+            initialDelayString = "${sidebar.snapshot.resync-interval-ms:300000}")
+    public synchronized void resync() {
+        LocalDate now = LocalDate.now();
+        VisitorCountsDTO counts = visitCountBuffer.callExclusively(() -> {
+            VisitorCountsDTO persisted = sidebarCacheService.getVisitorCounts();
+            return new VisitorCountsDTO(
+                    persisted.getTotal() + visitCountBuffer.getTotalPendingCount(),
+                    persisted.getToday() + visitCountBuffer.getPendingCount(now),
+                    persisted.getYesterday() + visitCountBuffer.getPendingCount(now.minusDays(1))
+            );
+        });
+
+        set(total, counts.getTotal());
+        set(todayCount, counts.getToday());
+        set(yesterdayCount, counts.getYesterday());
+        today = now;
+        loaded = true;
+        log.debug("Resynced sidebar visitor counts: total={}, today={}, yesterday={}",
+                counts.getTotal(), counts.getToday(), counts.getYesterday());
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            resync();
+        }
+    }
+
+    // 날짜가 바뀌면 오늘 방문 수를 어제로 옮김 (하루 넘게 지났으면 둘 다 0부터)
+    private synchronized void rollOver(LocalDate now) {
+        if (now.equals(today)) {
+            return;
+        }
+        long previousToday = todayCount.sumThenReset();
+        set(yesterdayCount, now.equals(today.plusDays(1)) ? previousToday : 0L);
+        today = now;
+    }
+
+    private byte[] serialize(SidebarDataDTO data) {
+        try {
+            return objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize sidebar data", e);
+        }
+    }
+
+    private static void set(LongAdder adder, long value) {
+        adder.reset();
+        adder.add(value);
+    }
+
+    private record Serialized(long total, long today, long yesterday, List<String> tags, byte[] json) {
+    }
+}
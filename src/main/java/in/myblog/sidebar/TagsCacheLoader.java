@@ -0,0 +1,34 @@
+package in.myblog.sidebar;
+
+import in.myblog.cache.NamedCacheLoader;
+import in.myblog.post.domain.Tags;
+import in.myblog.post.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// "tags" 캐시 로더 (SidebarCacheService.getTags와 같은 값, 만료 전 백그라운드 갱신에 사용)
+@RequiredArgsConstructor
+@Component
+public class TagsCacheLoader implements NamedCacheLoader {
+
+    private final TagRepository tagRepository;
+
+    @Override
+    public String getCacheName() {
+        return "tags";
+    }
+
+    @Override
+    public Object load(Object key) {
+        return loadTags();
+    }
+
+    public List<String> loadTags() {
+        return tagRepository.findAll().stream()
+                .map(Tags::getName)
+                .collect(Collectors.toList());
+    }
+}
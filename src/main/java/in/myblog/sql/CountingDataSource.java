@@ -0,0 +1,93 @@
+package in.myblog.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// JDBC 드라이버로 실제 실행되는 SQL을 StatementCounter에 기록하는 DataSource
+// Hibernate, JdbcTemplate, 네이티브 쿼리 구분 없이 execute* 호출 한 번을 문 하나로 집계 (일괄 실행은 한 번)
+public class CountingDataSource extends DelegatingDataSource {
+
+    private static final String BATCH_SQL = "<batch>";
+
+    public CountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    String name = method.getName();
+                    if (result instanceof CallableStatement callable && name.equals("prepareCall")) {
+                        return wrapStatement(callable, CallableStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof PreparedStatement prepared && name.equals("prepareStatement")) {
+                        return wrapStatement(prepared, PreparedStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof Statement statement && name.equals("createStatement")) {
+                        return wrapStatement(statement, Statement.class, null);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object wrapStatement(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        InvocationHandler handler = new InvocationHandler() {
+            // Statement.addBatch(sql)로 모은 첫 SQL (PreparedStatement는 준비한 SQL 사용)
+            private String batchSql;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if (name.equals("addBatch") && args != null && args.length > 0 && batchSql == null) {
+                    batchSql = (String) args[0];
+                } else if (name.startsWith("execute")) {
+                    StatementCounter.record(sqlOf(name, args));
+                    if (name.endsWith("Batch")) {
+                        batchSql = null;
+                    }
+                }
+                return CountingDataSource.invoke(statement, method, args);
+            }
+
+            private String sqlOf(String name, Object[] args) {
+                if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                    return sql;
+                }
+                if (preparedSql != null) {
+                    return preparedSql;
+                }
+                return name.endsWith("Batch") && batchSql != null ? batchSql : BATCH_SQL;
+            }
+        };
+        return Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
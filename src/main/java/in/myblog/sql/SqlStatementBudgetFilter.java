@@ -0,0 +1,92 @@
+package in.myblog.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+// 요청마다 실행된 SQL 문 수를 집계해 지표(http.server.sql.statements)로 기록하고
+// 같은 모양의 쿼리가 threshold번 이상 반복되면 N+1 의심으로 로그와 카운터에 남김
+// 개발 환경에서는 sql.statement-header.enabled=true로 응답 헤더에도 문 수를 표시
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "X-SQL-Statement-Count";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sql.n-plus-one.threshold:5}")
+    private int repeatThreshold;
+
+    @Value("${sql.statement-header.enabled:false}")
+    private boolean headerEnabled;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // 헤더는 본문보다 먼저 보내야 하므로 헤더를 붙일 때만 본문을 버퍼링
+        ContentCachingResponseWrapper cachingResponse = headerEnabled ? new ContentCachingResponseWrapper(response) : null;
+
+        try (StatementCounter.Scope scope = StatementCounter.start()) {
+            try {
+                chain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+            } finally {
+                report(request, scope);
+                if (cachingResponse != null) {
+                    cachingResponse.setHeader(HEADER_NAME, Integer.toString(scope.getStatementCount()));
+                    cachingResponse.copyBodyToResponse();
+                }
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, StatementCounter.Scope scope) {
+        int statements = scope.getStatementCount();
+        if (statements == 0) {
+            return;
+        }
+
+        // 경로 변수별로 지표가 나뉘지 않도록 매핑된 URI 패턴 사용
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        Map<String, Integer> repeated = scope.getRepeatedShapes(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder("http.server.sql.repeated")
+                    .description("Requests that repeated the same SQL shape (possible N+1)")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            repeated.forEach((shape, count) ->
+                    log.warn("Possible N+1 on {} {}: {} executions of [{}]", request.getMethod(), uri, count, shape));
+        }
+
+        log.debug("{} {} executed {} SQL statements", request.getMethod(), uri, statements);
+    }
+}
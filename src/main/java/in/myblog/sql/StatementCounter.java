@@ -0,0 +1,89 @@
+package in.myblog.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 현재 스레드에서 실행된 SQL 문 수와 같은 모양(리터럴/IN 목록을 지운 SQL)의 반복 횟수 집계
+// 요청 단위로는 SqlStatementBudgetFilter가, 테스트에서는 QueryBudget이 범위를 연다
+// 기록은 CountingDataSource가 JDBC 실행마다 수행 (Hibernate, JdbcTemplate 모두 포함)
+public final class StatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private StatementCounter() {
+        throw new AssertionError("This class should not be instantiated.");
+    }
+
+    // 범위가 겹치면 바깥 범위에도 함께 집계
+    public static Scope start() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (; scope != null; scope = scope.parent) {
+            scope.add(shape);
+        }
+    }
+
+    // 값만 다른 같은 쿼리가 같은 모양이 되도록 리터럴과 IN (?, ?, ...) 목록을 정규화
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final Map<String, Integer> countsByShape = new HashMap<>();
+        private int statementCount;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void add(String shape) {
+            statementCount++;
+            countsByShape.merge(shape, 1, Integer::sum);
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        // threshold번 이상 실행된 모양 (N+1 의심), 많이 실행된 순
+        public Map<String, Integer> getRepeatedShapes(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            countsByShape.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
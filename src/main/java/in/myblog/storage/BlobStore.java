@@ -0,0 +1,27 @@
+package in.myblog.storage;
+
+import java.io.InputStream;
+import java.util.List;
+
+// 업로드 파일 저장소 추상화 (storage.type=s3 | local)
+public interface BlobStore {
+
+    void put(String key, InputStream content, long contentLength, String contentType);
+
+    // 키가 없으면 CustomStorageExceptions.BlobNotFoundException
+    InputStream get(String key);
+
+    void delete(String key);
+
+    // 최대 getMaxBatchDeleteSize()개의 키를 한 번에 삭제하고 실제로 삭제된 키 목록 반환
+    // 일부만 실패한 경우 성공한 키만 반환하며, 저장소 전체 장애는 빈 목록 반환
+    List<String> deleteAll(List<String> keys);
+
+    int getMaxBatchDeleteSize();
+
+    // 클라이언트가 접근할 URL
+    String url(String key);
+
+    // 이 저장소의 URL이면 키를, 아니면 null 반환
+    String keyFromUrl(String url);
+}
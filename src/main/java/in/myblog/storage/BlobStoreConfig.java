@@ -0,0 +1,25 @@
+package in.myblog.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// BlobStore를 주입받는 곳에는 지연 시간을 기록하는 래퍼를 주입
+// (LocalBlobController처럼 구현 타입을 직접 주입받는 곳은 원본 빈 사용)
+@Configuration
+public class BlobStoreConfig {
+
+    @Bean
+    @Primary
+    public BlobStore timedBlobStore(ObjectProvider<S3BlobStore> s3BlobStore,
+                                    ObjectProvider<LocalBlobStore> localBlobStore,
+                                    MeterRegistry meterRegistry) {
+        S3BlobStore s3 = s3BlobStore.getIfAvailable();
+        if (s3 != null) {
+            return new TimedBlobStore(s3, "s3", meterRegistry);
+        }
+        return new TimedBlobStore(localBlobStore.getObject(), "local", meterRegistry);
+    }
+}
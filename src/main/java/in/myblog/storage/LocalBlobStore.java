@@ -0,0 +1,168 @@
+package in.myblog.storage;
+
+import in.myblog.storage.exception.CustomStorageExceptions;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+
+// 로컬 디스크 저장소. 단일 서버 배포나 테스트에서 S3 없이 사용
+// 파일은 LocalBlobController(/api/files/**)로 제공
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
+    @Value("${storage.local.root:./uploads}")
+    private String rootDirectory;
+
+    // 파일 URL 앞부분. CDN/리버스 프록시를 쓰면 절대 URL로 지정
+    @Value("${storage.local.base-url:/api/files}")
+    private String baseUrl;
+
+    private Path root;
+
+    public LocalBlobStore() {
+    }
+
+    // 스프링 컨텍스트 없이 사용할 때 (테스트 등)
+    public LocalBlobStore(Path root, String baseUrl) {
+        this.rootDirectory = root.toString();
+        this.baseUrl = baseUrl;
+        init();
+    }
+
+    @PostConstruct
+    void init() {
+        root = Paths.get(rootDirectory).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create storage directory " + root, e);
+        }
+        if (baseUrl.endsWith("/")) {
+            baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+        }
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            // 읽는 쪽이 쓰는 도중의 파일을 보지 않도록 임시 파일에 쓴 뒤 이동
+            temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new CustomStorageExceptions.StorageOperationFailedException("Failed to store " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new CustomStorageExceptions.BlobNotFoundException(key);
+        } catch (IOException e) {
+            throw new CustomStorageExceptions.StorageOperationFailedException("Failed to read " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new CustomStorageExceptions.StorageOperationFailedException("Failed to delete " + key, e);
+        }
+    }
+
+    // S3와 같이 존재하지 않는 키도 삭제된 것으로 처리
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        if (keys.size() > MAX_KEYS_PER_DELETE) {
+            throw new IllegalArgumentException("At most " + MAX_KEYS_PER_DELETE + " keys per request: " + keys.size());
+        }
+        List<String> deleted = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+                deleted.add(key);
+            } catch (IOException | CustomStorageExceptions.InvalidBlobKeyException e) {
+                log.warn("Failed to delete {}: {}", key, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public int getMaxBatchDeleteSize() {
+        return MAX_KEYS_PER_DELETE;
+    }
+
+    @Override
+    public String url(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public String keyFromUrl(String url) {
+        String prefix = baseUrl + "/";
+        if (url.startsWith(prefix) && url.length() > prefix.length()) {
+            return URLDecoder.decode(url.substring(prefix.length()), StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    // 저장된 파일 경로 (없으면 BlobNotFoundException)
+    public Path resolveExisting(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            throw new CustomStorageExceptions.BlobNotFoundException(key);
+        }
+        return path;
+    }
+
+    // 루트 디렉터리 밖을 가리키는 키(../ 등) 차단
+    private Path resolve(String key) {
+        if (key == null || key.isBlank()) {
+            throw new CustomStorageExceptions.InvalidBlobKeyException(key);
+        }
+        Path path;
+        try {
+            path = root.resolve(key).normalize();
+        } catch (InvalidPathException e) {
+            throw new CustomStorageExceptions.InvalidBlobKeyException(key);
+        }
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new CustomStorageExceptions.InvalidBlobKeyException(key);
+        }
+        return path;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package in.myblog.storage;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import in.myblog.storage.exception.CustomStorageExceptions;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3BlobStore implements BlobStore {
+
+    // S3 DeleteObjects 요청 한 번에 보낼 수 있는 최대 키 수
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
+    private final AmazonS3 amazonS3;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 객체 URL에서 키를 제외한 앞부분 (가상 호스트/경로 방식 엔드포인트 모두 대응)
+    private String urlPrefix;
+
+    @PostConstruct
+    void init() {
+        String sampleKey = "key";
+        String sampleUrl = amazonS3.getUrl(bucket, sampleKey).toString();
+        urlPrefix = sampleUrl.substring(0, sampleUrl.length() - sampleKey.length());
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(contentLength);
+        try {
+            amazonS3.putObject(new PutObjectRequest(bucket, key, content, metadata));
+        } catch (AmazonClientException e) {
+            throw new CustomStorageExceptions.StorageOperationFailedException("Failed to upload " + key + " to S3", e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        try {
+            return amazonS3.getObject(bucket, key).getObjectContent();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new CustomStorageExceptions.BlobNotFoundException(key);
+            }
+            throw new CustomStorageExceptions.StorageOperationFailedException("Failed to read " + key + " from S3", e);
+        } catch (AmazonClientException e) {
+            throw new CustomStorageExceptions.StorageOperationFailedException("Failed to read " + key + " from S3", e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            amazonS3.deleteObject(bucket, key);
+        } catch (AmazonClientException e) {
+            throw new CustomStorageExceptions.StorageOperationFailedException("Failed to delete " + key + " from S3", e);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        if (keys.size() > MAX_KEYS_PER_DELETE) {
+            throw new IllegalArgumentException("At most " + MAX_KEYS_PER_DELETE + " keys per request: " + keys.size());
+        }
+
+        List<String> deleted = new ArrayList<>(keys.size());
+        try {
+            DeleteObjectsResult result = amazonS3.deleteObjects(
+                    new DeleteObjectsRequest(bucket).withKeys(keys.toArray(new String[0])).withQuiet(false));
+            result.getDeletedObjects().forEach(object -> deleted.add(object.getKey()));
+        } catch (MultiObjectDeleteException e) {
+            // 일부 키만 실패한 경우 성공한 키만 반영
+            e.getDeletedObjects().forEach(object -> deleted.add(object.getKey()));
+            log.warn("Failed to delete {} of {} objects: {}", e.getErrors().size(), keys.size(), e.getMessage());
+        } catch (AmazonClientException e) {
+            log.warn("Failed to delete {} objects: {}", keys.size(), e.getMessage());
+            return List.of();
+        }
+        return deleted;
+    }
+
+    @Override
+    public int getMaxBatchDeleteSize() {
+        return MAX_KEYS_PER_DELETE;
+    }
+
+    @Override
+    public String url(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public String keyFromUrl(String url) {
+        if (url.startsWith(urlPrefix) && url.length() > urlPrefix.length()) {
+            return URLDecoder.decode(url.substring(urlPrefix.length()), StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,84 @@
+package in.myblog.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 저장소 호출(업로드/조회/삭제) 지연 시간을 blobstore.requests 타이머로 기록하는 BlobStore 래퍼
+// 태그: operation, backend(s3/local), outcome(success/error)
+public class TimedBlobStore implements BlobStore {
+
+    private static final String METRIC_NAME = "blobstore.requests";
+
+    private final BlobStore delegate;
+    private final String backend;
+    private final MeterRegistry meterRegistry;
+
+    public TimedBlobStore(BlobStore delegate, String backend, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.backend = backend;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) {
+        record("put", () -> {
+            delegate.put(key, content, contentLength, contentType);
+            return null;
+        });
+    }
+
+    // 스트림을 여는 데까지만 측정 (읽기는 호출한 쪽에서 진행)
+    @Override
+    public InputStream get(String key) {
+        return record("get", () -> delegate.get(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        record("delete", () -> {
+            delegate.delete(key);
+            return null;
+        });
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        return record("deleteAll", () -> delegate.deleteAll(keys));
+    }
+
+    @Override
+    public int getMaxBatchDeleteSize() {
+        return delegate.getMaxBatchDeleteSize();
+    }
+
+    @Override
+    public String url(String key) {
+        return delegate.url(key);
+    }
+
+    @Override
+    public String keyFromUrl(String url) {
+        return delegate.keyFromUrl(url);
+    }
+
+    private <T> T record(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("operation", operation)
+                    .tag("backend", backend)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
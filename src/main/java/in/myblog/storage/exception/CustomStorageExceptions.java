@@ -0,0 +1,26 @@
+package in.myblog.storage.exception;
+
+public class CustomStorageExceptions {
+
+    private CustomStorageExceptions() {
+        throw new AssertionError("This class should not be instantiated.");
+    }
+
+    public static class BlobNotFoundException extends RuntimeException {
+        public BlobNotFoundException(String key) {
+            super(String.format("파일을 찾을 수 없습니다: %s", key));
+        }
+    }
+
+    public static class InvalidBlobKeyException extends RuntimeException {
+        public InvalidBlobKeyException(String key) {
+            super(String.format("잘못된 파일 키입니다: %s", key));
+        }
+    }
+
+    public static class StorageOperationFailedException extends RuntimeException {
+        public StorageOperationFailedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package in.myblog.user.repository;
 
+import in.myblog.user.domain.UserRole;
 import in.myblog.user.domain.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +13,7 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<Users, Long> {
     Optional<Users> findByUsername(String username);
     Optional<Users> findByEmail(String email);
+
+    @Query("SELECT u.role FROM Users u WHERE u.id = :userId")
+    Optional<UserRole> findRoleById(@Param("userId") Long userId);
 }
@@ -1,6 +1,8 @@
 package in.myblog.user.service;
 
 import in.myblog.jwt.JwtUtil;
+import in.myblog.post.service.PostVersionRegistry;
+import in.myblog.secure.UserPrincipalCache;
 import in.myblog.user.domain.UserRole;
 import in.myblog.user.domain.RoleChangeRequest;
 import in.myblog.user.domain.Users;
@@ -27,6 +29,8 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final RoleChangeRequestRepository roleChangeRequestRepository;
     private final JwtUtil jwtUtil;
+    private final PostVersionRegistry postVersionRegistry;
+    private final UserPrincipalCache userPrincipalCache;
 
     public ResponseUserDTO registerUser(String username, String email, String password, HttpServletResponse response) {
         if (userRepository.findByUsername(username).isPresent()) {
@@ -90,6 +94,7 @@ public class UserService {
         }
 
         user.changePassword(passwordEncoder.encode(newPassword));
+        userPrincipalCache.evictAfterCommit(userId);
     }
 
     @Transactional
@@ -102,6 +107,9 @@ public class UserService {
         });
 
         user.changeUsername(newUsername);
+        // 게시글/댓글 응답에 작성자 이름이 포함되므로 모든 ETag 무효화
+        postVersionRegistry.bumpAll();
+        userPrincipalCache.evictAfterCommit(userId);
         return user;
     }
 
@@ -143,6 +151,7 @@ public class UserService {
 
         request.approve();
         request.getUser().changeRole(UserRole.MANAGER);
+        userPrincipalCache.evictAfterCommit(request.getUser().getId());
     }
 
     @Transactional
@@ -0,0 +1,163 @@
+package in.myblog.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 같은 H2 DB를 공유하는 두 애플리케이션 컨텍스트로 서버 두 대를 흉내 냄
+public class CacheInvalidationBusTest {
+
+    private static final String URL = "jdbc:h2:mem:cache_bus;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        nodeA = new AnnotationConfigApplicationContext(NodeConfig.class);
+        nodeB = new AnnotationConfigApplicationContext(NodeConfig.class);
+        jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS cache_invalidation_events");
+        jdbcTemplate.execute("CREATE TABLE cache_invalidation_events (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "cache_name VARCHAR(64) NOT NULL, " +
+                "cache_key VARCHAR(255), " +
+                "node_id VARCHAR(36) NOT NULL, " +
+                "created_at TIMESTAMP NOT NULL)");
+
+        // 첫 poll에서 현재 최대 ID를 시작점으로 잡음
+        bus(nodeA).poll();
+        bus(nodeB).poll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    public void testEventFromOneNodeEvictsCacheOnOtherNode() {
+        tagsCache(nodeA).put("key", List.of("java"));
+        tagsCache(nodeB).put("key", List.of("java"));
+
+        bus(nodeA).publish("tags", null);
+        bus(nodeB).poll();
+        bus(nodeA).poll();
+
+        assertNull(tagsCache(nodeB).get("key"));
+        // 발행한 서버는 자기 이벤트를 건너뜀 (커밋 후 직접 처리)
+        assertNotNull(tagsCache(nodeA).get("key"));
+    }
+
+    @Test
+    public void testHandlerReceivesKey() {
+        bus(nodeA).publish(RecordingHandler.CACHE_NAME, "42");
+        bus(nodeA).publish(RecordingHandler.CACHE_NAME, null);
+        bus(nodeB).poll();
+        bus(nodeA).poll();
+
+        List<String> keys = nodeB.getBean(RecordingHandler.class).keys;
+        assertEquals(2, keys.size());
+        assertEquals("42", keys.get(0));
+        assertNull(keys.get(1));
+        assertTrue(nodeA.getBean(RecordingHandler.class).keys.isEmpty());
+    }
+
+    @Test
+    public void testEventCommittedLateWithLowerIdIsNotSkipped() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidation_events", Long.class);
+
+        // 먼저 ID를 받은 트랜잭션이 늦게 커밋된 상황: 큰 ID가 먼저 보임
+        insertEvent(maxId + 2, "later");
+        bus(nodeB).poll();
+        insertEvent(maxId + 1, "earlier");
+        bus(nodeB).poll();
+        bus(nodeB).poll();
+
+        assertEquals(List.of("later", "earlier"), nodeB.getBean(RecordingHandler.class).keys);
+    }
+
+    @Test
+    public void testCompactRemovesOldEventsOnly() {
+        jdbcTemplate.update("INSERT INTO cache_invalidation_events (cache_name, cache_key, node_id, created_at) " +
+                "VALUES ('tags', NULL, 'other', ?)", Timestamp.valueOf(LocalDateTime.now().minusHours(1)));
+        bus(nodeA).publish("tags", null);
+
+        assertEquals(1, bus(nodeA).compact());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cache_invalidation_events", Integer.class));
+    }
+
+    private void insertEvent(long id, String key) {
+        jdbcTemplate.update("INSERT INTO cache_invalidation_events (id, cache_name, cache_key, node_id, created_at) " +
+                        "VALUES (?, ?, ?, 'other', ?)",
+                id, RecordingHandler.CACHE_NAME, key, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static CacheInvalidationBus bus(AnnotationConfigApplicationContext context) {
+        return context.getBean(CacheInvalidationBus.class);
+    }
+
+    private static Cache tagsCache(AnnotationConfigApplicationContext context) {
+        return context.getBean(CacheManager.class).getCache("tags");
+    }
+
+    @Configuration
+    @Import(CacheInvalidationBus.class)
+    static class NodeConfig {
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource(URL, "sa", "");
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("tags");
+        }
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    static class RecordingHandler implements CacheInvalidationHandler {
+        static final String CACHE_NAME = "recording";
+
+        final List<String> keys = new ArrayList<>();
+
+        @Override
+        public String getCacheName() {
+            return CACHE_NAME;
+        }
+
+        @Override
+        public void invalidate(String key) {
+            keys.add(key);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package in.myblog.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtUtilTest {
+
+    private static final String SECRET =
+            "cXVlcnktYnVkZ2V0LXRlc3Qtc2VjcmV0LXF1ZXJ5LWJ1ZGdldC10ZXN0LXNlY3JldC1xdWVyeS1idWRnZXQtdGVzdC1zZWNyZXQt";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    public void setUp() {
+        jwtUtil = new JwtUtil(new CaffeineCacheManager());
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 16);
+        jwtUtil.init();
+    }
+
+    @Test
+    public void testVerifiedTokenIsCached() {
+        String token = jwtUtil.generateAccessToken(7L);
+
+        VerifiedToken first = jwtUtil.verify(token);
+        assertEquals(7L, first.getUserId());
+        // 두 번째 검증은 캐시된 결과를 그대로 반환
+        assertSame(first, jwtUtil.verify(token));
+    }
+
+    @Test
+    public void testCachedTokenPastExpiryIsRejected() throws InterruptedException {
+        String token = jwtUtil.generateToken(7L, 1000L);
+        VerifiedToken verified = jwtUtil.verify(token);
+        assertSame(verified, jwtUtil.verify(token));
+
+        // 캐시에 남아 있어도 만료 시각이 지나면 다시 검증해 거부
+        long waitMillis = verified.getExpiration().getTime() - System.currentTimeMillis() + 100L;
+        Thread.sleep(Math.max(waitMillis, 0L));
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+        assertFalse(jwtUtil.validateToken(token));
+    }
+
+    @Test
+    public void testTamperedTokenIsRejected() {
+        String token = jwtUtil.generateAccessToken(7L);
+        jwtUtil.verify(token);
+
+        // 캐시 키는 토큰 전체의 해시이므로 서명이 바뀐 토큰은 캐시를 거치지 않고 거부
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        assertFalse(jwtUtil.validateToken(tampered));
+    }
+
+    @Test
+    public void testShouldRefreshNearExpiry() {
+        assertFalse(jwtUtil.shouldRefreshToken(jwtUtil.generateRefreshToken(7L)));
+        // 만료 3일 전부터 갱신 (임계값보다 짧게 남은 토큰)
+        assertTrue(jwtUtil.shouldRefreshToken(jwtUtil.generateToken(7L, 60000L)));
+    }
+}
@@ -0,0 +1,76 @@
+package in.myblog.post.service;
+
+import in.myblog.post.repository.PostImageRepository;
+import in.myblog.storage.BlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class ImageDeletionQueueTest {
+
+    private BlobStore blobStore;
+    private PostImageRepository postImageRepository;
+    private ImageDeletionQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        blobStore = mock(BlobStore.class);
+        postImageRepository = mock(PostImageRepository.class);
+        queue = new ImageDeletionQueue(blobStore, postImageRepository);
+
+        // 저장소 대역: 요청된 키를 모두 삭제한 것으로 응답
+        when(blobStore.getMaxBatchDeleteSize()).thenReturn(1000);
+        when(blobStore.deleteAll(anyList())).thenAnswer(invocation -> new ArrayList<>(invocation.<List<String>>getArgument(0)));
+    }
+
+    @Test
+    public void testFlushSendsAtMostThousandKeysPerRequest() {
+        List<String> keys = IntStream.range(0, 2500).mapToObj(i -> "posts/" + i + ".jpg").toList();
+
+        // 트랜잭션 밖에서는 바로 큐에 추가됨
+        queue.enqueueAfterCommit(keys);
+        queue.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> requests = ArgumentCaptor.forClass(List.class);
+        verify(blobStore, times(3)).deleteAll(requests.capture());
+        assertEquals(List.of(1000, 1000, 500), requests.getAllValues().stream()
+                .map(List::size)
+                .toList());
+        verify(postImageRepository, times(3)).deleteUnreferencedByImageKeyIn(any());
+        assertEquals(0, queue.getPendingCount());
+    }
+
+    @Test
+    public void testPartialFailureKeepsFailedKeysForRetry() {
+        when(blobStore.deleteAll(anyList())).thenReturn(List.of("posts/a.jpg"));
+
+        List<String> deleted = queue.deleteBatch(List.of("posts/a.jpg", "posts/b.jpg"));
+
+        assertEquals(List.of("posts/a.jpg"), deleted);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> removedRows = ArgumentCaptor.forClass(Collection.class);
+        verify(postImageRepository).deleteUnreferencedByImageKeyIn(removedRows.capture());
+        assertEquals(List.of("posts/a.jpg"), new ArrayList<>(removedRows.getValue()));
+    }
+
+    @Test
+    public void testNothingRemovedWhenStorageFails() {
+        when(blobStore.deleteAll(anyList())).thenReturn(List.of());
+
+        List<String> deleted = queue.deleteBatch(List.of("posts/a.jpg"));
+
+        assertTrue(deleted.isEmpty());
+        verifyNoInteractions(postImageRepository);
+    }
+}
@@ -0,0 +1,126 @@
+package in.myblog.post.service;
+
+import in.myblog.comment.domain.Comments;
+import in.myblog.like.domain.Like;
+import in.myblog.like.service.LikeCountBuffer;
+import in.myblog.post.domain.*;
+import in.myblog.user.domain.UserRole;
+import in.myblog.user.domain.Users;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+// @DataJpaTest는 테스트마다 트랜잭션을 열어 두므로 MANDATORY 전파인 PostDeleter를 그대로 호출할 수 있음
+@DataJpaTest
+@Import(PostDeleter.class)
+@TestPropertySource(properties = "post.delete.archive-visit-logs=true")
+public class PostDeleterTest {
+
+    @MockBean
+    private PostImageRegistry postImageRegistry;
+
+    @MockBean
+    private LikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private PostDeleter postDeleter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Posts deleted;
+    private Posts kept;
+
+    @BeforeEach
+    public void setUp() {
+        Users author = entityManager.persist(Users.builder()
+                .username("author")
+                .password("password")
+                .email("author@myblog.in")
+                .role(UserRole.ADMIN)
+                .build());
+        Tags tag = entityManager.persist(Tags.builder().name("java").build());
+
+        deleted = createPostWithChildren(author, tag, "deleted");
+        kept = createPostWithChildren(author, tag, "kept");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testDeleteRemovesChildRowsAndArchivesVisitLogs() {
+        postDeleter.delete(deleted.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertNull(entityManager.find(Posts.class, deleted.getId()));
+        assertEquals(0, countByPost("Comments", deleted.getId()));
+        assertEquals(0, countByPost("Like", deleted.getId()));
+        assertEquals(0, countByPost("PostTags", deleted.getId()));
+        assertEquals(0, countByPost("VisitLog", deleted.getId()));
+
+        List<VisitLogArchive> archived = entityManager.getEntityManager()
+                .createQuery("select a from VisitLogArchive a", VisitLogArchive.class)
+                .getResultList();
+        assertEquals(1, archived.size());
+        assertEquals(deleted.getId(), archived.get(0).getPostId());
+        assertEquals("127.0.0.1", archived.get(0).getIpAddress());
+        assertNotNull(archived.get(0).getArchivedAt());
+
+        // 다른 게시글의 하위 데이터는 그대로
+        assertNotNull(entityManager.find(Posts.class, kept.getId()));
+        assertEquals(1, countByPost("Comments", kept.getId()));
+        assertEquals(1, countByPost("Like", kept.getId()));
+        assertEquals(1, countByPost("PostTags", kept.getId()));
+        assertEquals(1, countByPost("VisitLog", kept.getId()));
+
+        verify(postImageRegistry).releasePost(deleted.getId());
+        verify(likeCountBuffer).discardAfterCommit(deleted.getId());
+    }
+
+    private Posts createPostWithChildren(Users author, Tags tag, String title) {
+        LocalDateTime now = LocalDateTime.now();
+        Posts post = entityManager.persist(Posts.builder()
+                .title(title)
+                .content("<p>" + title + "</p>")
+                .createdAt(now)
+                .updatedAt(now)
+                .author(author)
+                .build());
+        entityManager.persist(PostTags.builder().post(post).tag(tag).createdAt(now).build());
+        entityManager.persist(Comments.builder()
+                .content("comment")
+                .createdAt(now)
+                .updatedAt(now)
+                .post(post)
+                .author(author)
+                .isAnonymous(false)
+                .build());
+        entityManager.persist(Like.builder().post(post).deviceId("device-" + title).build());
+        entityManager.persist(VisitLog.builder()
+                .post(post)
+                .ipAddress("127.0.0.1")
+                .visitedAt(now)
+                .userAgent("agent")
+                .build());
+        return post;
+    }
+
+    private long countByPost(String entityName, Long postId) {
+        return entityManager.getEntityManager()
+                .createQuery("select count(e) from " + entityName + " e where e.post.id = :postId", Long.class)
+                .setParameter("postId", postId)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,131 @@
+package in.myblog.post.service;
+
+import in.myblog.post.domain.PostImage;
+import in.myblog.post.repository.PostImageRefRepository;
+import in.myblog.post.repository.PostImageRepository;
+import in.myblog.post.repository.PostRepository;
+import in.myblog.storage.BlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PostImageRegistryTest {
+
+    private static final String URL_PREFIX = "https://cdn.myblog.in/";
+    private static final String ORIGINAL_KEY = "posts/a.png";
+
+    private PostImageRepository postImageRepository;
+    private PostImageRefRepository postImageRefRepository;
+    private PostRepository postRepository;
+    private PostVersionRegistry postVersionRegistry;
+    private RecordingJdbcTemplate jdbcTemplate;
+    private PostImageRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        BlobStore blobStore = mock(BlobStore.class);
+        postImageRepository = mock(PostImageRepository.class);
+        postImageRefRepository = mock(PostImageRefRepository.class);
+        postRepository = mock(PostRepository.class);
+        postVersionRegistry = mock(PostVersionRegistry.class);
+        jdbcTemplate = new RecordingJdbcTemplate();
+        registry = new PostImageRegistry(blobStore, postImageRepository, postImageRefRepository,
+                postRepository, postVersionRegistry, mock(ImageDeletionQueue.class), jdbcTemplate);
+        ReflectionTestUtils.setField(registry, "sizes", "100vw");
+
+        when(blobStore.url(anyString())).thenAnswer(invocation -> URL_PREFIX + invocation.getArgument(0));
+        when(blobStore.keyFromUrl(anyString())).thenAnswer(invocation -> {
+            String url = invocation.getArgument(0);
+            return url.startsWith(URL_PREFIX) ? url.substring(URL_PREFIX.length()) : null;
+        });
+
+        // 변형 생성이 끝난 원본 이미지
+        PostImage image = mock(PostImage.class);
+        when(image.getImageKey()).thenReturn(ORIGINAL_KEY);
+        when(image.getWidth()).thenReturn(2000);
+        when(image.getVariantWidths()).thenReturn("480,960");
+        when(postImageRepository.findByImageKeyIn(any())).thenReturn(List.of(image));
+        when(postImageRefRepository.findPostIdsByImageKey(ORIGINAL_KEY)).thenReturn(List.of(7L));
+    }
+
+    @Test
+    public void testApplyVariantsAttachesVariantKeysToSavedPost() {
+        // 변형 생성보다 먼저 저장되어 srcset이 없는 본문
+        String content = "<p><img src=\"" + URL_PREFIX + ORIGINAL_KEY + "\"></p>";
+        when(postRepository.findContentById(7L)).thenReturn(Optional.of(content));
+        when(postRepository.updateContentIfUnchanged(eq(7L), eq(content), anyString())).thenReturn(1);
+
+        registry.applyVariants(ORIGINAL_KEY);
+
+        verify(postRepository).updateContentIfUnchanged(eq(7L), eq(content),
+                contains("srcset=\"" + URL_PREFIX + "posts/a_w480.jpg 480w"));
+
+        // 변형 키도 게시글에 연결되어 고아 이미지 정리 대상에서 빠져야 함
+        Object[] refArgs = jdbcTemplate.argsOf("INSERT INTO post_image_refs");
+        assertNotNull(refArgs);
+        List<Object> args = Arrays.asList(refArgs);
+        assertTrue(args.contains("posts/a_w480.jpg"));
+        assertTrue(args.contains("posts/a_w960.jpg"));
+        assertTrue(args.contains(ORIGINAL_KEY));
+        assertTrue(args.contains(7L));
+        assertNotNull(jdbcTemplate.argsOf("INSERT INTO post_images"));
+
+        verify(postVersionRegistry).bumpPost(7L);
+    }
+
+    @Test
+    public void testApplyVariantsSkipsPostEditedInBetween() {
+        String content = "<p><img src=\"" + URL_PREFIX + ORIGINAL_KEY + "\"></p>";
+        when(postRepository.findContentById(7L)).thenReturn(Optional.of(content));
+        // 그사이 본문이 수정되어 조건부 UPDATE가 적용되지 않음
+        when(postRepository.updateContentIfUnchanged(eq(7L), eq(content), anyString())).thenReturn(0);
+
+        registry.applyVariants(ORIGINAL_KEY);
+
+        assertTrue(jdbcTemplate.statements.isEmpty());
+        verify(postVersionRegistry, never()).bumpPost(anyLong());
+    }
+
+    @Test
+    public void testApplyVariantsSkipsContentWithSrcset() {
+        String content = "<p><img src=\"" + URL_PREFIX + ORIGINAL_KEY + "\" srcset=\"x 1w\"></p>";
+        when(postRepository.findContentById(7L)).thenReturn(Optional.of(content));
+
+        registry.applyVariants(ORIGINAL_KEY);
+
+        verify(postRepository, never()).updateContentIfUnchanged(anyLong(), anyString(), anyString());
+        assertTrue(jdbcTemplate.statements.isEmpty());
+    }
+
+    // 실행된 SQL과 인자를 기록만 하는 JdbcTemplate
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<String> statements = new ArrayList<>();
+        private final List<Object[]> arguments = new ArrayList<>();
+
+        @Override
+        public int update(String sql, Object... args) {
+            statements.add(sql);
+            arguments.add(args);
+            return args.length / 2;
+        }
+
+        Object[] argsOf(String sqlPrefix) {
+            for (int i = 0; i < statements.size(); i++) {
+                if (statements.get(i).startsWith(sqlPrefix)) {
+                    return arguments.get(i);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package in.myblog.post.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PostPreviewGeneratorTest {
+
+    @Test
+    public void testNullAndEmptyContent() {
+        assertEquals("", PostPreviewGenerator.generate(null));
+        assertEquals("", PostPreviewGenerator.generate(""));
+        assertEquals("", PostPreviewGenerator.generate("   "));
+    }
+
+    @Test
+    public void testStripsHtmlImage() {
+        assertEquals("<p>hello</p> world",
+                PostPreviewGenerator.generate("<p>hello</p><img src=\"https://cdn.myblog.in/a.png\"> world"));
+    }
+
+    @Test
+    public void testStripsMarkdownImage() {
+        assertEquals("intro  outro",
+                PostPreviewGenerator.generate("intro ![cat](https://cdn.myblog.in/cat.png) outro"));
+    }
+
+    @Test
+    public void testStripsLongUrlButKeepsShortUrl() {
+        assertEquals("see  and http://a.io",
+                PostPreviewGenerator.generate("see https://example.com/a/very/long/path/here and http://a.io"));
+    }
+
+    @Test
+    public void testTruncatesAtPreviewLength() {
+        String exact = "a".repeat(100);
+        assertEquals(exact, PostPreviewGenerator.generate(exact));
+
+        String longer = "b".repeat(150);
+        assertEquals("b".repeat(100) + "...", PostPreviewGenerator.generate(longer));
+    }
+
+    @Test
+    public void testStripsImageTagCutAtSourceLength() {
+        // 본문 앞 300자에서 잘린 img 태그(닫는 > 없음)도 제거
+        String content = "intro <img src=\"https://cdn.myblog.in/" + "a".repeat(400) + ".png\">";
+        assertEquals("intro", PostPreviewGenerator.generate(content));
+    }
+}
@@ -0,0 +1,142 @@
+package in.myblog.post.service;
+
+import in.myblog.cache.CacheInvalidationBus;
+import in.myblog.config.IpUtil;
+import in.myblog.post.controller.PostController;
+import in.myblog.post.dto.ResponsePageDetailDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class PostVersionRegistryTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private CacheInvalidationBus cacheInvalidationBus;
+    private PostVersionRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        cacheInvalidationBus = mock(CacheInvalidationBus.class);
+        registry = new PostVersionRegistry(cacheInvalidationBus);
+    }
+
+    @Test
+    public void testPostETagChangesOnEdit() {
+        String first = registry.rememberPostETag(1L, registry.getPostVersion(1L), UPDATED_AT);
+        assertEquals(first, registry.getKnownPostETag(1L));
+
+        // 수정 커밋 후 (트랜잭션 밖에서는 바로 증가)
+        registry.bumpPost(1L);
+        verify(cacheInvalidationBus).publish(PostVersionRegistry.CACHE_NAME, "post:1");
+        assertNull(registry.getKnownPostETag(1L));
+
+        String edited = registry.rememberPostETag(1L, registry.getPostVersion(1L), UPDATED_AT.plusMinutes(1));
+        assertNotEquals(first, edited);
+        assertEquals(edited, registry.getKnownPostETag(1L));
+    }
+
+    @Test
+    public void testStaleVersionIsNotRemembered() {
+        long observed = registry.getPostVersion(1L);
+        // 조회 도중 쓰기가 커밋된 경우
+        registry.bumpPost(1L);
+        registry.rememberPostETag(1L, observed, UPDATED_AT);
+
+        assertNull(registry.getKnownPostETag(1L));
+    }
+
+    @Test
+    public void testLikeBumpsPostAndListLocally() {
+        String postETag = registry.rememberPostETag(1L, registry.getPostVersion(1L), UPDATED_AT);
+        String listETag = registry.getListETag();
+
+        registry.bumpPostLocally(1L);
+
+        // 다른 서버에는 LikeCountBuffer 반영 시 전파하므로 여기서는 발행하지 않음
+        verifyNoInteractions(cacheInvalidationBus);
+        assertNull(registry.getKnownPostETag(1L));
+        assertNotEquals(listETag, registry.getListETag());
+        assertNotEquals(postETag, registry.rememberPostETag(1L, registry.getPostVersion(1L), UPDATED_AT));
+    }
+
+    @Test
+    public void testListETagChangesOnBumpAndRemoteInvalidation() {
+        String initial = registry.getListETag();
+        assertEquals(initial, registry.getListETag());
+
+        registry.bumpList();
+        verify(cacheInvalidationBus).publish(PostVersionRegistry.CACHE_NAME, "list");
+        String bumped = registry.getListETag();
+        assertNotEquals(initial, bumped);
+
+        // 다른 서버에서 전파된 변경은 다시 발행하지 않음
+        registry.invalidate("list");
+        assertNotEquals(bumped, registry.getListETag());
+        verify(cacheInvalidationBus, times(1)).publish(anyString(), any());
+    }
+
+    @Test
+    public void testBumpAllChangesEveryETag() {
+        String postETag = registry.rememberPostETag(1L, registry.getPostVersion(1L), UPDATED_AT);
+        String listETag = registry.getListETag();
+
+        registry.bumpAll();
+
+        assertNull(registry.getKnownPostETag(1L));
+        assertNotEquals(listETag, registry.getListETag());
+        assertNotEquals(postETag, registry.rememberPostETag(1L, registry.getPostVersion(1L), UPDATED_AT));
+    }
+
+    @Test
+    public void testMatchingETagReturnsNotModified() throws Exception {
+        PostServiceImpl postService = mock(PostServiceImpl.class);
+        ResponsePageDetailDTO post = new ResponsePageDetailDTO();
+        post.setTitle("title");
+        post.setUpdatedAt(UPDATED_AT);
+        when(postService.getPost(eq(1L), any(), any())).thenReturn(post);
+        MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new PostController(postService, mock(IpUtil.class), registry))
+                .build();
+
+        String eTag = mockMvc.perform(get("/api/posts/{postId}", 1L))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(eTag);
+
+        // 같은 ETag면 게시글을 다시 조회하지 않고 304
+        mockMvc.perform(get("/api/posts/{postId}", 1L).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag));
+        verify(postService, times(1)).getPost(eq(1L), any(), any());
+        verify(postService).saveVisitLog(eq(1L), any(), any());
+
+        // 수정 후에는 이전 ETag로 요청해도 다시 조회
+        registry.bumpPost(1L);
+        mockMvc.perform(get("/api/posts/{postId}", 1L).header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+        verify(postService, times(2)).getPost(eq(1L), any(), any());
+    }
+
+    @Test
+    public void testMatchingListETagReturnsNotModified() throws Exception {
+        PostServiceImpl postService = mock(PostServiceImpl.class);
+        MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new PostController(postService, mock(IpUtil.class), registry))
+                .build();
+
+        mockMvc.perform(get("/api/posts").param("cursor", "").header("If-None-Match", registry.getListETag()))
+                .andExpect(status().isNotModified());
+        verify(postService, never()).getRecentPostsByCursor(any(), anyInt(), any(), any());
+    }
+}
@@ -0,0 +1,82 @@
+package in.myblog.post.service;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import in.myblog.cache.CacheInvalidationBus;
+import in.myblog.post.dto.TagMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class TagPostIndexTest {
+
+    private TagPostIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TagPostIndex(mock(JPAQueryFactory.class), mock(CacheInvalidationBus.class));
+
+        // 트랜잭션 밖에서는 바로 색인에 반영됨
+        index.indexPostAfterCommit(1L, List.of("java", "spring"));
+        index.indexPostAfterCommit(2L, List.of("java"));
+        index.indexPostAfterCommit(3L, List.of("spring", "jpa"));
+        index.indexPostAfterCommit(4L, List.of("java", "spring", "jpa"));
+    }
+
+    @Test
+    public void testAllMatchIntersectsPostings() {
+        assertArrayEquals(new long[]{1L, 4L}, index.findPostIds(List.of("java", "spring"), TagMatch.ALL));
+        assertArrayEquals(new long[]{4L}, index.findPostIds(List.of("java", "spring", "jpa"), TagMatch.ALL));
+        // 없는 태그가 하나라도 있으면 결과 없음
+        assertArrayEquals(new long[0], index.findPostIds(List.of("java", "kotlin"), TagMatch.ALL));
+    }
+
+    @Test
+    public void testAnyMatchUnionsPostings() {
+        assertArrayEquals(new long[]{1L, 2L, 4L}, index.findPostIds(List.of("java"), TagMatch.ANY));
+        assertArrayEquals(new long[]{1L, 2L, 3L, 4L}, index.findPostIds(List.of("java", "jpa"), TagMatch.ANY));
+        assertArrayEquals(new long[]{3L, 4L}, index.findPostIds(List.of("kotlin", "jpa"), TagMatch.ANY));
+    }
+
+    @Test
+    public void testEditMovesPostBetweenTags() {
+        // 게시글 2의 태그를 java -> jpa로 수정
+        index.indexPostAfterCommit(2L, List.of("jpa"));
+
+        assertArrayEquals(new long[]{1L, 4L}, index.findPostIds(List.of("java"), TagMatch.ANY));
+        assertArrayEquals(new long[]{2L, 3L, 4L}, index.findPostIds(List.of("jpa"), TagMatch.ANY));
+
+        index.removePostAfterCommit(4L);
+
+        assertArrayEquals(new long[]{1L}, index.findPostIds(List.of("java", "spring"), TagMatch.ALL));
+        assertArrayEquals(new long[]{2L, 3L}, index.findPostIds(List.of("jpa"), TagMatch.ANY));
+    }
+
+    @Test
+    public void testLastPostRemovedDropsTag() {
+        index.indexPostAfterCommit(5L, List.of("kotlin"));
+        assertEquals(4, index.getStats().getTagCount());
+
+        index.removePostAfterCommit(5L);
+
+        assertArrayEquals(new long[0], index.findPostIds(List.of("kotlin"), TagMatch.ANY));
+        assertEquals(3, index.getStats().getTagCount());
+    }
+
+    @Test
+    public void testCaseAndWhitespaceVariantsMatch() {
+        // DB 콜레이션처럼 대소문자/앞뒤 공백을 구분하지 않음
+        assertArrayEquals(new long[]{1L, 2L, 4L}, index.findPostIds(List.of("Java"), TagMatch.ANY));
+        assertArrayEquals(new long[]{1L, 4L}, index.findPostIds(List.of("JAVA", " spring "), TagMatch.ALL));
+        // 같은 태그의 대소문자 변형은 하나로 취급
+        assertArrayEquals(new long[]{1L, 2L, 4L}, index.findPostIds(List.of("java", "Java"), TagMatch.ALL));
+
+        // 수정 시 대소문자가 다른 이름으로 들어와도 같은 태그로 색인
+        index.indexPostAfterCommit(3L, List.of("Spring", "JPA", "Java"));
+        assertArrayEquals(new long[]{1L, 2L, 3L, 4L}, index.findPostIds(List.of("java"), TagMatch.ANY));
+        assertEquals(3, index.getStats().getTagCount());
+    }
+}
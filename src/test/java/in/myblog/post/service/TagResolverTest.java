@@ -0,0 +1,119 @@
+package in.myblog.post.service;
+
+import in.myblog.sql.CountingDataSource;
+import in.myblog.sql.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagResolverTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TagResolver tagResolver;
+
+    @BeforeEach
+    public void setUp() {
+        DataSource dataSource = new CountingDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:tag_resolver;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate = new H2JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS tags");
+        jdbcTemplate.execute("CREATE TABLE tags (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "name VARCHAR(255) NOT NULL UNIQUE, orphaned_at TIMESTAMP NULL)");
+        jdbcTemplate.update("INSERT INTO tags (name) VALUES ('java'), ('spring')");
+
+        tagResolver = new TagResolver(jdbcTemplate, new CaffeineCacheManager());
+        ReflectionTestUtils.setField(tagResolver, "cacheSize", 100);
+        tagResolver.init();
+    }
+
+    @Test
+    public void testMixedTagsResolveInFixedStatements() throws Exception {
+        // 기존 태그 조회, 없는 태그 INSERT IGNORE, 잠금 재조회
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        int statements = QueryBudget.assertAtMost(3, () ->
+                resolved.putAll(tagResolver.resolve(List.of("java", " jpa ", "spring", "kotlin", "jpa", ""))));
+
+        assertEquals(3, statements);
+        assertEquals(List.of("java", "jpa", "spring", "kotlin"), new ArrayList<>(resolved.keySet()));
+        assertEquals(idOf("java"), resolved.get("java"));
+        assertEquals(idOf("jpa"), resolved.get("jpa"));
+        assertEquals(idOf("kotlin"), resolved.get("kotlin"));
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class));
+
+        // 태그 수가 늘어도 문 수는 같음
+        List<String> many = new ArrayList<>(List.of("java", "spring"));
+        for (int i = 0; i < 20; i++) {
+            many.add("tag" + i);
+        }
+        assertEquals(3, QueryBudget.assertAtMost(3, () -> tagResolver.resolve(many)));
+    }
+
+    @Test
+    public void testCachedTagsNeedNoStatements() throws Exception {
+        Map<String, Long> first = tagResolver.resolve(List.of("java", "jpa"));
+
+        // 트랜잭션 밖에서는 바로 캐시됨
+        assertEquals(0, QueryBudget.assertAtMost(0, () ->
+                assertEquals(first, tagResolver.resolve(List.of("java", "jpa")))));
+    }
+
+    @Test
+    public void testOrphanedTagIsUnmarked() throws Exception {
+        jdbcTemplate.update("UPDATE tags SET orphaned_at = CURRENT_TIMESTAMP WHERE name = 'java'");
+
+        // 조회, 삭제 대기 표시 해제
+        assertEquals(2, QueryBudget.assertAtMost(2, () -> tagResolver.resolve(List.of("java", "spring"))));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tags WHERE orphaned_at IS NOT NULL", Integer.class));
+    }
+
+    @Test
+    public void testRolledBackTagIsNotCached() throws Exception {
+        Long rolledBackId = transactionTemplate.execute(status -> {
+            Long id = tagResolver.resolve(List.of("rust")).get("rust");
+            status.setRollbackOnly();
+            return id;
+        });
+        assertNotNull(rolledBackId);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags WHERE name = 'rust'", Integer.class));
+
+        // 롤백된 ID가 캐시에 남았다면 쿼리 없이 없는 ID를 반환했을 것
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        assertEquals(3, QueryBudget.assertAtMost(3, () -> resolved.putAll(tagResolver.resolve(List.of("rust")))));
+        assertNotEquals(rolledBackId, resolved.get("rust"));
+        assertEquals(idOf("rust"), resolved.get("rust"));
+    }
+
+    private Long idOf(String name) {
+        return jdbcTemplate.queryForObject("SELECT id FROM tags WHERE name = ?", Long.class, name);
+    }
+
+    // H2는 MySQL의 LOCK IN SHARE MODE 구문을 지원하지 않으므로 FOR UPDATE로 바꿔 실행
+    private static class H2JdbcTemplate extends JdbcTemplate {
+        H2JdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            super.query(sql.replace(" LOCK IN SHARE MODE", " FOR UPDATE"), rch, args);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package in.myblog.post.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VisitLogWriterTest {
+
+    private RecordingJdbcTemplate jdbcTemplate;
+    private VisitLogWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:visit_log_writer;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new RecordingJdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS visit_log");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS posts");
+        jdbcTemplate.execute("CREATE TABLE posts (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE visit_log (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "post_id BIGINT NOT NULL REFERENCES posts (id), ip_address VARCHAR(255), " +
+                "visited_at TIMESTAMP, user_agent VARCHAR(255))");
+        jdbcTemplate.execute("INSERT INTO posts (id) VALUES (1), (2)");
+
+        writer = new VisitLogWriter(jdbcTemplate);
+        ReflectionTestUtils.setField(writer, "overflowPolicy", VisitLogWriter.OverflowPolicy.DROP);
+        ReflectionTestUtils.setField(writer, "blockTimeoutMs", 50L);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        jdbcTemplate.release.countDown();
+        writer.stop();
+    }
+
+    @Test
+    public void testDropsEventsWhenQueueIsFull() throws InterruptedException {
+        configure(2, 1, 1000L);
+        jdbcTemplate.blockWrites();
+        writer.start();
+
+        // 첫 이벤트를 기록하는 동안 작업 스레드가 멈춰 있으므로 큐에는 두 개까지만 들어감
+        writer.enqueue(1L, "127.0.0.1", "agent");
+        assertTrue(jdbcTemplate.entered.await(5, TimeUnit.SECONDS));
+        writer.enqueue(1L, "127.0.0.1", "agent");
+        writer.enqueue(2L, "127.0.0.1", "agent");
+        writer.enqueue(2L, "127.0.0.1", "agent");
+
+        assertEquals(2, writer.getQueueDepth());
+        assertEquals(1, writer.getDroppedCount());
+
+        jdbcTemplate.release.countDown();
+        writer.stop();
+
+        assertEquals(3, writer.getWrittenCount());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM visit_log", Integer.class));
+    }
+
+    @Test
+    public void testFallsBackToRowByRowWhenBatchFails() throws InterruptedException {
+        configure(100, 3, 5000L);
+        writer.start();
+
+        // 삭제된 게시글(999)의 로그 때문에 multi-row INSERT 전체가 실패
+        writer.enqueue(1L, "127.0.0.1", "agent");
+        writer.enqueue(999L, "127.0.0.1", "agent");
+        writer.enqueue(2L, "127.0.0.1", "agent");
+        writer.stop();
+
+        assertEquals(List.of(3, 1, 1, 1), jdbcTemplate.rowsPerInsert);
+        assertEquals(2, writer.getWrittenCount());
+        assertEquals(1, writer.getFailedCount());
+        assertEquals(List.of(1L, 2L), jdbcTemplate.queryForList(
+                "SELECT post_id FROM visit_log ORDER BY post_id", Long.class));
+    }
+
+    private void configure(int queueCapacity, int flushSize, long flushIntervalMs) {
+        ReflectionTestUtils.setField(writer, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(writer, "flushSize", flushSize);
+        ReflectionTestUtils.setField(writer, "flushIntervalMs", flushIntervalMs);
+    }
+
+    // visit_log INSERT마다 행 수를 기록하고, 필요하면 해제될 때까지 기록을 멈춤
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<Integer> rowsPerInsert = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean blocking;
+
+        RecordingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        void blockWrites() {
+            blocking = true;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            if (sql.startsWith("INSERT INTO visit_log")) {
+                rowsPerInsert.add(args.length / 4);
+                if (blocking) {
+                    entered.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+            return super.update(sql, args);
+        }
+    }
+}
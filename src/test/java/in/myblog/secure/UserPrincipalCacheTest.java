@@ -0,0 +1,176 @@
+package in.myblog.secure;
+
+import in.myblog.cache.CacheInvalidationBus;
+import in.myblog.jwt.JwtUtil;
+import in.myblog.post.service.PostVersionRegistry;
+import in.myblog.user.domain.RoleChangeRequest;
+import in.myblog.user.domain.UserRole;
+import in.myblog.user.domain.Users;
+import in.myblog.user.repository.RoleChangeRequestRepository;
+import in.myblog.user.repository.UserRepository;
+import in.myblog.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class UserPrincipalCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private CacheInvalidationBus cacheInvalidationBus;
+    private UserPrincipalCache cache;
+    private AtomicInteger loads;
+
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private RoleChangeRequestRepository roleChangeRequestRepository;
+    private UserService userService;
+    private Users user;
+
+    @BeforeEach
+    public void setUp() {
+        cacheInvalidationBus = mock(CacheInvalidationBus.class);
+        cache = new UserPrincipalCache(cacheInvalidationBus, new CaffeineCacheManager());
+        ReflectionTestUtils.setField(cache, "maxSize", 16);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        cache.init();
+        loads = new AtomicInteger();
+
+        userRepository = mock(UserRepository.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        roleChangeRequestRepository = mock(RoleChangeRequestRepository.class);
+        userService = new UserService(userRepository, passwordEncoder, roleChangeRequestRepository,
+                mock(JwtUtil.class), mock(PostVersionRegistry.class), cache);
+
+        user = Users.builder().id(USER_ID).username("user").password("encoded").email("user@myblog.in")
+                .role(UserRole.USER).build();
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.empty());
+        when(passwordEncoder.matches("old", "encoded")).thenReturn(true);
+        when(passwordEncoder.encode("new")).thenReturn("encoded-new");
+    }
+
+    @Test
+    public void testPrincipalIsCachedUntilEvicted() {
+        UserDetails first = load();
+        assertSame(first, load());
+        assertEquals(1, loads.get());
+
+        cache.evict(USER_ID);
+
+        assertNotSame(first, load());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testEvictionDuringLoadDoesNotCacheStaleValue() {
+        // 조회 도중 다른 요청이 변경을 커밋하고 제거한 경우
+        cache.get(USER_ID, () -> {
+            cache.evict(USER_ID);
+            return principal("USER");
+        });
+
+        load();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testPasswordChangeEvictsAfterCommit() {
+        load();
+
+        List<TransactionSynchronization> synchronizations =
+                inTransaction(() -> userService.changePassword(USER_ID, "old", "new"));
+
+        assertEvictedOnlyAfterCommit(synchronizations);
+        assertEquals("encoded-new", user.getPassword());
+    }
+
+    @Test
+    public void testUsernameChangeEvictsAfterCommit() {
+        load();
+
+        List<TransactionSynchronization> synchronizations =
+                inTransaction(() -> userService.changeUsername(USER_ID, "renamed"));
+
+        assertEvictedOnlyAfterCommit(synchronizations);
+        assertEquals("renamed", user.getUsername());
+    }
+
+    @Test
+    public void testRoleChangeEvictsAfterCommit() {
+        RoleChangeRequest request = RoleChangeRequest.builder()
+                .id(10L)
+                .user(user)
+                .status(RoleChangeRequest.RequestStatus.PENDING)
+                .requestDate(LocalDateTime.now())
+                .build();
+        when(roleChangeRequestRepository.findById(10L)).thenReturn(Optional.of(request));
+        load();
+
+        List<TransactionSynchronization> synchronizations =
+                inTransaction(() -> userService.approveRoleChangeRequest(10L));
+
+        assertEvictedOnlyAfterCommit(synchronizations);
+        assertEquals(UserRole.MANAGER, user.getRole());
+    }
+
+    @Test
+    public void testRolledBackChangeKeepsCachedPrincipal() {
+        load();
+
+        // 커밋되지 않으면 afterCommit이 호출되지 않음
+        inTransaction(() -> userService.changePassword(USER_ID, "old", "new"));
+
+        load();
+        assertEquals(1, loads.get());
+    }
+
+    private void assertEvictedOnlyAfterCommit(List<TransactionSynchronization> synchronizations) {
+        // 다른 서버에는 바로 전파하고, 이 서버의 캐시는 커밋 전까지 유지
+        verify(cacheInvalidationBus).publish(UserPrincipalCache.CACHE_NAME, USER_ID.toString());
+        load();
+        assertEquals(1, loads.get());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        load();
+        assertEquals(2, loads.get());
+    }
+
+    // 트랜잭션 동기화가 활성화된 상태로 실행하고 등록된 동기화 목록 반환 (커밋은 호출한 쪽에서 흉내 냄)
+    private static List<TransactionSynchronization> inTransaction(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private UserDetails load() {
+        return cache.get(USER_ID, () -> {
+            loads.incrementAndGet();
+            return principal(user.getRole().name());
+        });
+    }
+
+    private static UserDetails principal(String role) {
+        return User.withUsername(USER_ID.toString()).password("").roles(role).build();
+    }
+}
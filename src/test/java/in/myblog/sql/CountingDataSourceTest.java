@@ -0,0 +1,61 @@
+package in.myblog.sql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CountingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        DriverManagerDataSource target = new DriverManagerDataSource(
+                "jdbc:h2:mem:counting_data_source;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(new CountingDataSource(target));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS tags (id BIGINT PRIMARY KEY, name VARCHAR(32))");
+        jdbcTemplate.update("DELETE FROM tags");
+    }
+
+    @Test
+    public void testCountsPlainAndPreparedStatements() throws Exception {
+        int statements = QueryBudget.assertAtMost(3, () -> {
+            jdbcTemplate.update("INSERT INTO tags (id, name) VALUES (?, ?)", 1L, "java");
+            jdbcTemplate.queryForList("SELECT name FROM tags WHERE id = ?", String.class, 1L);
+            jdbcTemplate.execute("SELECT COUNT(*) FROM tags");
+        });
+        assertEquals(3, statements);
+    }
+
+    @Test
+    public void testBatchCountsAsOneStatement() throws Exception {
+        List<Object[]> args = List.of(new Object[]{1L, "java"}, new Object[]{2L, "spring"}, new Object[]{3L, "jpa"});
+
+        assertEquals(1, QueryBudget.assertAtMost(1, () ->
+                jdbcTemplate.batchUpdate("INSERT INTO tags (id, name) VALUES (?, ?)", args)));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class));
+    }
+
+    @Test
+    public void testRepeatedQueryShapeIsDetected() {
+        assertThrows(AssertionError.class, () -> QueryBudget.assertAtMost(100, () -> {
+            for (long id = 1; id <= 5; id++) {
+                jdbcTemplate.queryForList("SELECT name FROM tags WHERE id = " + id, String.class);
+            }
+        }));
+    }
+
+    @Test
+    public void testDataSourceIsWrappedOnce() {
+        CountingDataSourcePostProcessor postProcessor = new CountingDataSourcePostProcessor();
+        Object wrapped = postProcessor.postProcessAfterInitialization(new DriverManagerDataSource(), "dataSource");
+
+        assertInstanceOf(CountingDataSource.class, wrapped);
+        assertSame(wrapped, postProcessor.postProcessAfterInitialization(wrapped, "dataSource"));
+    }
+}
@@ -0,0 +1,167 @@
+package in.myblog.sql;
+
+import in.myblog.comment.domain.Comments;
+import in.myblog.comment.repository.CommentRepository;
+import in.myblog.like.service.LikeDeviceIdMigration;
+import in.myblog.post.domain.PostTags;
+import in.myblog.post.domain.Posts;
+import in.myblog.post.domain.Tags;
+import in.myblog.post.repository.PostRepository;
+import in.myblog.post.repository.PostTagRespository;
+import in.myblog.post.repository.TagRepository;
+import in.myblog.post.service.PostImageRefMigration;
+import in.myblog.post.service.TotalVisitCountMigration;
+import in.myblog.user.domain.UserRole;
+import in.myblog.user.domain.Users;
+import in.myblog.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 주요 조회/좋아요 엔드포인트의 요청당 SQL 문 수 상한
+// 게시글/댓글/태그 수를 QueryBudget의 반복 기준(5)보다 많이 만들어 두어 N+1이 생기면 실패하도록 함
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "storage.type=local",
+        "storage.local.root=build/test-uploads",
+        "cloud.aws.stack.auto=false",
+        "cloud.aws.region.static=ap-northeast-2",
+        "cloud.aws.credentials.access-key=test",
+        "cloud.aws.credentials.secret-key=test",
+        "jwt.secret=cXVlcnktYnVkZ2V0LXRlc3Qtc2VjcmV0LXF1ZXJ5LWJ1ZGdldC10ZXN0LXNlY3JldC1xdWVyeS1idWRnZXQtdGVzdC1zZWNyZXQt",
+        "jwt.expiration=3600000",
+        "jwt.refresh.expiration=86400000"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EndpointQueryBudgetTest {
+
+    private static final int POST_COUNT = 8;
+    private static final int COMMENT_COUNT = 25;
+
+    // MySQL 전용 SQL을 쓰는 기동 시 마이그레이션은 제외
+    @MockBean
+    private LikeDeviceIdMigration likeDeviceIdMigration;
+
+    @MockBean
+    private PostImageRefMigration postImageRefMigration;
+
+    @MockBean
+    private TotalVisitCountMigration totalVisitCountMigration;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostTagRespository postTagRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Long postId;
+
+    @BeforeAll
+    public void setUp() {
+        Users author = userRepository.save(Users.builder()
+                .username("author")
+                .password("password")
+                .email("author@myblog.in")
+                .role(UserRole.ADMIN)
+                .build());
+
+        List<Tags> tags = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tags.add(tagRepository.save(Tags.builder().name("tag" + i).build()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Posts post = postRepository.save(Posts.builder()
+                    .title("post " + i)
+                    .content("<p>content " + i + "</p>")
+                    .createdAt(now.minusMinutes(POST_COUNT - i))
+                    .updatedAt(now.minusMinutes(POST_COUNT - i))
+                    .author(author)
+                    .build());
+            for (Tags tag : tags) {
+                postTagRepository.save(PostTags.builder().post(post).tag(tag).createdAt(now).build());
+            }
+            postId = post.getId();
+        }
+
+        Posts post = postRepository.findById(postId).orElseThrow();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            commentRepository.save(Comments.builder()
+                    .content("comment " + i)
+                    .createdAt(now.minusSeconds(COMMENT_COUNT - i))
+                    .updatedAt(now.minusSeconds(COMMENT_COUNT - i))
+                    .post(post)
+                    .author(author)
+                    .isAnonymous(false)
+                    .build());
+        }
+    }
+
+    @Test
+    public void testPostDetail() throws Exception {
+        // 게시글+태그, 댓글 첫 페이지, 댓글 수
+        QueryBudget.assertAtMost(3, () -> mockMvc.perform(get("/api/posts/{postId}", postId))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    public void testCursorList() throws Exception {
+        // 게시글 ID, 요약, 태그, 좋아요 상태
+        QueryBudget.assertAtMost(4, () -> mockMvc.perform(get("/api/posts")
+                        .param("cursor", "")
+                        .param("size", String.valueOf(POST_COUNT))
+                        .param("deviceId", "device-1"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    public void testCommentsOfPost() throws Exception {
+        QueryBudget.assertAtMost(1, () -> mockMvc.perform(get("/api/comments/post/{postId}", postId))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    public void testLikeToggle() throws Exception {
+        // 추가: INSERT, like_count 조회
+        QueryBudget.assertAtMost(2, () -> mockMvc.perform(post("/api/posts/{postId}/like", postId)
+                        .param("deviceId", "device-2")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk()));
+        // 취소: INSERT(무시됨), DELETE, like_count 조회
+        QueryBudget.assertAtMost(3, () -> mockMvc.perform(post("/api/posts/{postId}/like", postId)
+                        .param("deviceId", "device-2")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,39 @@
+package in.myblog.sql;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// 테스트에서 작업 하나가 실행하는 SQL 문 수 상한을 검증
+// 예: QueryBudget.assertAtMost(3, () -> mockMvc.perform(get("/api/posts/1")));
+public final class QueryBudget {
+
+    // 이 횟수 이상 반복된 같은 모양의 쿼리는 예산 안이어도 실패 (N+1)
+    private static final int REPEAT_THRESHOLD = 5;
+
+    private QueryBudget() {
+        throw new AssertionError("This class should not be instantiated.");
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    // 실행된 문 수 반환
+    public static int assertAtMost(int maxStatements, Action action) throws Exception {
+        try (StatementCounter.Scope scope = StatementCounter.start()) {
+            action.run();
+
+            Map<String, Integer> repeated = scope.getRepeatedShapes(REPEAT_THRESHOLD);
+            if (!repeated.isEmpty()) {
+                fail("Repeated SQL statements (possible N+1): " + repeated);
+            }
+            int statements = scope.getStatementCount();
+            if (statements > maxStatements) {
+                fail("Expected at most " + maxStatements + " SQL statements but " + statements + " were executed");
+            }
+            return statements;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package in.myblog.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatementCounterTest {
+
+    @Test
+    public void testShapeIgnoresLiteralsAndInListLength() {
+        assertEquals(
+                StatementCounter.shapeOf("select * from users where id = 1"),
+                StatementCounter.shapeOf("select *  from users\nwhere id = 42"));
+        assertEquals(
+                StatementCounter.shapeOf("select * from tags where name in (?, ?)"),
+                StatementCounter.shapeOf("select * from tags where name in (?,?,?,?)"));
+        assertEquals(
+                StatementCounter.shapeOf("select * from tags where name = 'java'"),
+                StatementCounter.shapeOf("select * from tags where name = 'it''s'"));
+    }
+
+    @Test
+    public void testStatementsOutsideScopeAreIgnored() {
+        StatementCounter.record("select 1");
+
+        try (StatementCounter.Scope scope = StatementCounter.start()) {
+            assertEquals(0, scope.getStatementCount());
+        }
+    }
+
+    @Test
+    public void testNestedScopesCountIntoOuterScope() {
+        try (StatementCounter.Scope outer = StatementCounter.start()) {
+            StatementCounter.record("select p.id from posts p");
+            try (StatementCounter.Scope inner = StatementCounter.start()) {
+                StatementCounter.record("select c.id from comments c");
+                assertEquals(1, inner.getStatementCount());
+            }
+            StatementCounter.record("select t.id from tags t");
+            assertEquals(3, outer.getStatementCount());
+        }
+    }
+
+    @Test
+    public void testQueryBudgetFailsOnRepeatedShape() {
+        // 댓글마다 작성자를 따로 조회하는 N+1 형태
+        AssertionError error = assertThrows(AssertionError.class, () -> QueryBudget.assertAtMost(100, () -> {
+            StatementCounter.record("select c.id, c.user_id from comments c where c.post_id = ?");
+            for (int userId = 1; userId <= 5; userId++) {
+                StatementCounter.record("select u.username from users u where u.id = " + userId);
+            }
+        }));
+        assertTrue(error.getMessage().contains("users"));
+    }
+
+    @Test
+    public void testQueryBudgetFailsWhenOverBudget() throws Exception {
+        assertEquals(2, QueryBudget.assertAtMost(2, () -> {
+            StatementCounter.record("select p.id from posts p");
+            StatementCounter.record("select t.name from tags t");
+        }));
+
+        assertThrows(AssertionError.class, () -> QueryBudget.assertAtMost(1, () -> {
+            StatementCounter.record("select p.id from posts p");
+            StatementCounter.record("select t.name from tags t");
+        }));
+    }
+
+    @Test
+    public void testRepeatedShapesAreSortedByCount() {
+        try (StatementCounter.Scope scope = StatementCounter.start()) {
+            for (int i = 0; i < 3; i++) {
+                StatementCounter.record("select * from likes where post_id = " + i);
+            }
+            for (int i = 0; i < 6; i++) {
+                StatementCounter.record("select * from users where id = " + i);
+            }
+
+            Map<String, Integer> repeated = scope.getRepeatedShapes(3);
+            assertEquals(2, repeated.size());
+            assertEquals(6, repeated.values().iterator().next());
+        }
+    }
+}
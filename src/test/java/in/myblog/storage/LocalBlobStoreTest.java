@@ -0,0 +1,68 @@
+package in.myblog.storage;
+
+import in.myblog.storage.exception.CustomStorageExceptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    private LocalBlobStore blobStore;
+
+    @BeforeEach
+    public void setUp() {
+        blobStore = new LocalBlobStore(root, "/api/files");
+    }
+
+    @Test
+    public void testPutGetAndDelete() throws Exception {
+        byte[] bytes = "image".getBytes(StandardCharsets.UTF_8);
+        blobStore.put("posts/a.jpg", new ByteArrayInputStream(bytes), bytes.length, "image/jpeg");
+
+        try (InputStream in = blobStore.get("posts/a.jpg")) {
+            assertArrayEquals(bytes, in.readAllBytes());
+        }
+        assertTrue(Files.exists(root.resolve("posts/a.jpg")));
+
+        assertEquals(List.of("posts/a.jpg", "posts/missing.jpg"),
+                blobStore.deleteAll(List.of("posts/a.jpg", "posts/missing.jpg")));
+        assertThrows(CustomStorageExceptions.BlobNotFoundException.class, () -> blobStore.get("posts/a.jpg"));
+    }
+
+    @Test
+    public void testUrlRoundTrip() {
+        String url = blobStore.url("posts/a.jpg");
+
+        assertEquals("/api/files/posts/a.jpg", url);
+        assertEquals("posts/a.jpg", blobStore.keyFromUrl(url));
+        assertNull(blobStore.keyFromUrl("https://example.com/posts/a.jpg"));
+    }
+
+    @Test
+    public void testRejectsKeysOutsideRoot() {
+        assertThrows(CustomStorageExceptions.InvalidBlobKeyException.class, () -> blobStore.get("../secret.txt"));
+        assertThrows(CustomStorageExceptions.InvalidBlobKeyException.class, () -> blobStore.resolveExisting("posts/../../x"));
+    }
+
+    @Test
+    public void testParseRange() {
+        assertArrayEquals(new long[]{0, 99}, LocalBlobController.parseRange("bytes=0-99", 1000));
+        assertArrayEquals(new long[]{900, 999}, LocalBlobController.parseRange("bytes=-100", 1000));
+        assertArrayEquals(new long[]{500, 999}, LocalBlobController.parseRange("bytes=500-", 1000));
+        assertArrayEquals(new long[]{500, 999}, LocalBlobController.parseRange("bytes=500-5000", 1000));
+        assertEquals(0, LocalBlobController.parseRange("bytes=1000-", 1000).length);
+        assertNull(LocalBlobController.parseRange("bytes=0-1,5-6", 1000));
+    }
+}
@@ -0,0 +1,57 @@
+package in.myblog.storage;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class S3BlobStoreTest {
+
+    private AmazonS3 amazonS3;
+    private S3BlobStore blobStore;
+
+    @BeforeEach
+    public void setUp() {
+        amazonS3 = mock(AmazonS3.class);
+        blobStore = new S3BlobStore(amazonS3);
+        ReflectionTestUtils.setField(blobStore, "bucket", "test-bucket");
+    }
+
+    @Test
+    public void testPartialFailureReturnsOnlyDeletedKeys() {
+        MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+        error.setKey("posts/b.jpg");
+        doThrow(new MultiObjectDeleteException(List.of(error), deletedObjects(List.of("posts/a.jpg"))))
+                .when(amazonS3).deleteObjects(any(DeleteObjectsRequest.class));
+
+        List<String> deleted = blobStore.deleteAll(List.of("posts/a.jpg", "posts/b.jpg"));
+
+        assertEquals(List.of("posts/a.jpg"), deleted);
+    }
+
+    @Test
+    public void testRejectsMoreThanThousandKeys() {
+        List<String> keys = IntStream.range(0, 1001).mapToObj(i -> "posts/" + i + ".jpg").toList();
+
+        assertThrows(IllegalArgumentException.class, () -> blobStore.deleteAll(keys));
+        verifyNoInteractions(amazonS3);
+    }
+
+    private static List<DeleteObjectsResult.DeletedObject> deletedObjects(List<String> keys) {
+        return keys.stream().map(key -> {
+            DeleteObjectsResult.DeletedObject deletedObject = new DeleteObjectsResult.DeletedObject();
+            deletedObject.setKey(key);
+            return deletedObject;
+        }).toList();
+    }
+}